@@ -15,7 +15,7 @@ public class HeaderFilter implements Filter {
         res.setHeader("Access-Control-Allow-Methods", "GET, POST, PUT, DELETE");  //외부 요청에 허용할 메서드
         res.setHeader("Access-Control-Max-Age", "3600"); // 캐싱을 허용할 시간
         res.setHeader("Access-Control-Allow-Headers",
-                "Access-Control-Allow-Origin, Access-Control-Allow-Headers, X-Requested-With, Content-Type, Authorization, X-XSRF-token"
+                "Access-Control-Allow-Origin, Access-Control-Allow-Headers, X-Requested-With, Content-Type, Authorization, X-XSRF-token, Idempotency-Key"
         );
         res.setHeader("Access-Control-Allow-Credentials", "false");
 
@@ -1,9 +1,12 @@
 package com.spicy.backend.inventory.api;
 
 import com.spicy.backend.global.common.ApiResponse;
+import com.spicy.backend.inventory.application.InventoryOutboundService;
 import com.spicy.backend.inventory.application.InventoryService;
+import com.spicy.backend.inventory.dto.request.InventoryBatchOutboundRequest;
 import com.spicy.backend.inventory.dto.request.InventoryOutboundRequest;
 import com.spicy.backend.inventory.dto.request.InventoryRequest;
+import com.spicy.backend.inventory.dto.response.InventoryBatchOutboundResponse;
 import com.spicy.backend.inventory.dto.response.ProductResponse;
 import com.spicy.backend.inventory.dto.response.ProductSummaryResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -24,6 +27,7 @@ import java.util.List;
 @RequestMapping("/api/v1/inventory")
 public class InventoryController {
     private final InventoryService inventoryService;
+    private final InventoryOutboundService inventoryOutboundService;
 
     @Operation(summary = "전체 상품 조회", description = "모든 상품에 대한 정보 조회")
     @GetMapping
@@ -56,7 +60,14 @@ public class InventoryController {
     @Operation(summary = "재고 차감", description = "상품의 재고를 차감한다")
     public ResponseEntity<ApiResponse<Void>> outbound(
             @Valid @RequestBody InventoryOutboundRequest inventoryOutboundRequest) {
-        return ResponseEntity.ok(ApiResponse.success(inventoryService.outbound(inventoryOutboundRequest)));
+        return ResponseEntity.ok(ApiResponse.success(inventoryOutboundService.outbound(inventoryOutboundRequest)));
+    }
+
+    @PostMapping("/outbound/batch")
+    @Operation(summary = "재고 일괄 차감", description = "여러 상품의 재고를 한 번에 차감하고 로트별 차감 내역을 반환한다")
+    public ResponseEntity<ApiResponse<InventoryBatchOutboundResponse>> outboundBatch(
+            @Valid @RequestBody InventoryBatchOutboundRequest inventoryBatchOutboundRequest) {
+        return ResponseEntity.ok(ApiResponse.success(inventoryService.outboundBatch(inventoryBatchOutboundRequest)));
     }
 
 }
@@ -0,0 +1,45 @@
+package com.spicy.backend.inventory.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InventoryExpiryScheduler {
+
+    private final InventoryService inventoryService;
+    private final InventoryReservationEngine inventoryReservationEngine;
+
+    // 만료 처리를 마친 마지막 날짜 (같은 날짜에는 다시 처리하지 않음)
+    private LocalDate lastSweptDate;
+
+    // 서버 시작 시 밀린 만료 처리
+    @EventListener(ApplicationReadyEvent.class)
+    public void sweepOnStartup() {
+        sweep(LocalDate.now());
+    }
+
+    // 매 분 날짜 변경 여부만 확인하고, 날짜가 바뀐 경우에만 실제 만료 처리
+    @Scheduled(cron = "${inventory.expiry.cron:0 * * * * *}")
+    public void sweepOnDateRollover() {
+        sweep(LocalDate.now());
+    }
+
+    public synchronized void sweep(LocalDate today) {
+        if (lastSweptDate != null && !lastSweptDate.isBefore(today)) {
+            return;
+        }
+
+        int expiredCount = inventoryService.expireInventories(today);
+        inventoryReservationEngine.dropExpired(today);
+        lastSweptDate = today;
+        log.info("유통기한 만료 처리 완료: 기준일 {}, 만료 로트 {}건", today, expiredCount);
+    }
+}
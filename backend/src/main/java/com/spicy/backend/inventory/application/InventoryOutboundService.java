@@ -0,0 +1,90 @@
+package com.spicy.backend.inventory.application;
+
+import com.spicy.backend.global.error.exception.BusinessException;
+import com.spicy.backend.inventory.dto.request.InventoryOutboundRequest;
+import com.spicy.backend.inventory.error.InventoryErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+// 출고 모드 선택 (pessimistic: 행 잠금, optimistic: 버전 충돌 시 재시도)
+@Slf4j
+@Service
+public class InventoryOutboundService {
+
+    private final InventoryService inventoryService;
+    private final boolean optimistic;
+    private final int maxAttempts;
+    private final long baseBackoffMillis;
+    private final long maxBackoffMillis;
+
+    private final Counter retryCounter;
+    private final Counter failureCounter;
+    private final DistributionSummary attemptSummary;
+
+    public InventoryOutboundService(
+            InventoryService inventoryService,
+            MeterRegistry meterRegistry,
+            @Value("${inventory.outbound.mode:pessimistic}") String mode,
+            @Value("${inventory.outbound.optimistic.max-attempts:5}") int maxAttempts,
+            @Value("${inventory.outbound.optimistic.base-backoff-ms:10}") long baseBackoffMillis,
+            @Value("${inventory.outbound.optimistic.max-backoff-ms:200}") long maxBackoffMillis
+    ) {
+        this.inventoryService = inventoryService;
+        this.optimistic = "optimistic".equalsIgnoreCase(mode);
+        this.maxAttempts = maxAttempts;
+        this.baseBackoffMillis = baseBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+
+        this.retryCounter = Counter.builder("inventory.outbound.optimistic.retries")
+                .description("낙관적 출고 버전 충돌로 인한 재시도 횟수")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("inventory.outbound.optimistic.failures")
+                .description("재시도 한도를 넘겨 실패한 낙관적 출고 건수")
+                .register(meterRegistry);
+        this.attemptSummary = DistributionSummary.builder("inventory.outbound.optimistic.attempts")
+                .description("낙관적 출고 성공까지의 시도 횟수")
+                .register(meterRegistry);
+    }
+
+    public Void outbound(InventoryOutboundRequest request) {
+        if (!optimistic) {
+            return inventoryService.outbound(request);
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                // 시도마다 새 트랜잭션에서 최신 로트를 다시 읽어 차감
+                inventoryService.outboundOptimistic(request);
+                attemptSummary.record(attempt);
+                return null;
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    failureCounter.increment();
+                    log.warn("낙관적 출고 재시도 한도 초과: 상품 {}, 시도 {}회", request.name(), attempt);
+                    throw new BusinessException(InventoryErrorCode.OUTBOUND_CONFLICT);
+                }
+                retryCounter.increment();
+                backoff(attempt);
+            }
+        }
+    }
+
+    // 지수 백오프 + 지터 (동시에 충돌한 요청들이 같은 시점에 재시도하지 않도록)
+    private void backoff(int attempt) {
+        long delay = Math.min(maxBackoffMillis, baseBackoffMillis << (attempt - 1));
+        long jittered = ThreadLocalRandom.current().nextLong(delay / 2, delay + 1);
+        try {
+            Thread.sleep(jittered);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(InventoryErrorCode.OUTBOUND_CONFLICT);
+        }
+    }
+}
@@ -0,0 +1,442 @@
+package com.spicy.backend.inventory.application;
+
+import com.spicy.backend.global.error.exception.BusinessException;
+import com.spicy.backend.inventory.domain.Inventory;
+import com.spicy.backend.inventory.domain.InventoryReservation;
+import com.spicy.backend.inventory.domain.LotStatus;
+import com.spicy.backend.inventory.domain.ReservationStatus;
+import com.spicy.backend.inventory.dto.response.ReservedLot;
+import com.spicy.backend.inventory.error.InventoryErrorCode;
+import com.spicy.backend.inventory.storage.InventoryRepository;
+import com.spicy.backend.inventory.storage.InventoryReservationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 주문 재고 예약: 상품별 스트라이프 잠금 아래 메모리에서 FEFO 로트를 예약 (주문 시 inventory 행 잠금을 잡지 않음)
+// 예약/해제/배송 완료는 주문 트랜잭션 안에서 inventory_reservation에 기록하고, 로트/재고 합계 차감만 주기적으로 일괄 반영
+// 예약 가능 수량을 서버 메모리에 두므로 단일 인스턴스에서만 사용 (inventory.reservation.enabled, 기본 꺼짐)
+// 켜면 본사에 ACTIVE 로트가 없는 상품은 주문 시 OUT_OF_STOCK
+@Slf4j
+@Component
+public class InventoryReservationEngine {
+
+    private static final Comparator<Lot> FEFO = Comparator
+            .comparing((Lot lot) -> lot.expirationDate)
+            .thenComparing(lot -> lot.id);
+
+    private final InventoryRepository inventoryRepository;
+    private final InventoryReservationRepository reservationRepository;
+    private final InventoryReservationWriter reservationWriter;
+    private final boolean enabled;
+    private final int flushBatchSize;
+
+    // 상품 ID 기준 스트라이프 잠금 (서로 다른 상품의 예약은 동시에 진행)
+    private final ReentrantLock[] stripes;
+
+    // 상품 ID -> 유통기한 빠른 순 로트 목록 (해당 상품의 스트라이프 잠금 안에서만 접근)
+    private final Map<Long, List<Lot>> lotsByProductId = new ConcurrentHashMap<>();
+    private final Map<Long, Lot> lotsById = new ConcurrentHashMap<>();
+
+    // 주문 ID -> 예약 내역 (해제/차감 전까지 보관)
+    private final Map<Long, List<ReservedLot>> reservationsByOrderId = new ConcurrentHashMap<>();
+
+    public InventoryReservationEngine(
+            InventoryRepository inventoryRepository,
+            InventoryReservationRepository reservationRepository,
+            InventoryReservationWriter reservationWriter,
+            @Value("${inventory.reservation.enabled:false}") boolean enabled,
+            @Value("${inventory.reservation.stripes:64}") int stripeCount,
+            @Value("${inventory.reservation.flush-batch-size:1000}") int flushBatchSize
+    ) {
+        this.inventoryRepository = inventoryRepository;
+        this.reservationRepository = reservationRepository;
+        this.reservationWriter = reservationWriter;
+        this.enabled = enabled;
+        this.flushBatchSize = flushBatchSize;
+
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    // 주문 수량(상품 ID -> 수량)만큼 유통기한 빠른 로트부터 예약 (한 상품이라도 부족하면 전체 실패)
+    public List<ReservedLot> reserve(Long orderId, Map<Long, Integer> quantities) {
+        if (!enabled || quantities.isEmpty()) {
+            return List.of();
+        }
+        LocalDate today = LocalDate.now();
+
+        List<ReservedLot> reserved = new ArrayList<>();
+        List<ReentrantLock> locks = lockStripes(quantities.keySet());
+        try {
+            for (Map.Entry<Long, Integer> entry : new TreeMap<>(quantities).entrySet()) {
+                int remaining = entry.getValue();
+
+                for (Lot lot : lotsByProductId.getOrDefault(entry.getKey(), List.of())) {
+                    if (remaining == 0) {
+                        break;
+                    }
+                    // 유통기한이 지난 로트는 만료 스케줄러 반영 전이라도 예약하지 않음
+                    if (lot.expirationDate.isBefore(today) || lot.available() <= 0) {
+                        continue;
+                    }
+
+                    int taken = Math.min(lot.available(), remaining);
+                    lot.held += taken;
+                    reserved.add(new ReservedLot(orderId, lot.productId, lot.id, taken));
+                    remaining -= taken;
+                }
+
+                if (remaining > 0) {
+                    unhold(reserved);
+                    throw new BusinessException(InventoryErrorCode.OUT_OF_STOCK);
+                }
+            }
+            reservationsByOrderId.put(orderId, reserved);
+        } finally {
+            unlock(locks);
+        }
+
+        // 주문 트랜잭션이 롤백되면 메모리 예약도 되돌림
+        Runnable undo = () -> {
+            if (reservationsByOrderId.remove(orderId, reserved)) {
+                returnToLots(reserved);
+            }
+        };
+        afterCompletion(null, undo);
+
+        // 예약 내역은 주문과 같은 트랜잭션으로 저장 (다중 행 INSERT 한 번, inventory 행은 잠그지 않음)
+        try {
+            reservationRepository.bulkInsertReservations(reserved);
+        } catch (RuntimeException e) {
+            if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                undo.run();
+            }
+            throw e;
+        }
+        return reserved;
+    }
+
+    // 주문 취소: 주문 트랜잭션 안에서 예약 해제를 기록하고, 커밋되면 예약 수량을 로트에 돌려줌
+    public void release(Collection<Long> orderIds) {
+        if (!enabled || orderIds.isEmpty()) {
+            return;
+        }
+        reservationRepository.updateStatusByOrderIds(orderIds, ReservationStatus.RESERVED, ReservationStatus.RELEASED);
+
+        afterCompletion(() -> {
+            for (Long orderId : orderIds) {
+                List<ReservedLot> reserved = reservationsByOrderId.remove(orderId);
+                if (reserved != null) {
+                    returnToLots(reserved);
+                }
+            }
+        }, null);
+    }
+
+    // 배송 완료: 주문 트랜잭션 안에서 CONSUMED로 기록 (로트 수량은 flush가 차감을 반영한 뒤 줄어듦)
+    public void consume(Collection<Long> orderIds) {
+        if (!enabled || orderIds.isEmpty()) {
+            return;
+        }
+        reservationRepository.updateStatusByOrderIds(orderIds, ReservationStatus.RESERVED, ReservationStatus.CONSUMED);
+
+        // 차감이 반영될 때까지 로트의 예약 수량(held)은 그대로 둠
+        afterCompletion(() -> orderIds.forEach(reservationsByOrderId::remove), null);
+    }
+
+    // 수동 출고가 가져가면 안 되는 수량 (예약 + 차감 반영 전 배송 완료)
+    public int heldQuantity(Long lotId) {
+        Lot lot = lotsById.get(lotId);
+        if (lot == null) {
+            return 0;
+        }
+        ReentrantLock lock = stripeOf(lot.productId);
+        lock.lock();
+        try {
+            return lot.held;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 입고/출고로 바뀐 로트 수량을 커밋 후 메모리에 반영
+    public void syncLots(List<Inventory> inventories) {
+        if (!enabled || inventories.isEmpty()) {
+            return;
+        }
+        List<LotSnapshot> snapshots = inventories.stream()
+                .map(i -> new LotSnapshot(i.getId(), i.getProductId(), i.getExpirationDate(), i.getQuantity(), i.getStatus()))
+                .toList();
+
+        afterCompletion(() -> {
+            List<ReentrantLock> locks = lockStripes(snapshots.stream().map(LotSnapshot::productId).toList());
+            try {
+                for (LotSnapshot snapshot : snapshots) {
+                    apply(snapshot);
+                }
+            } finally {
+                unlock(locks);
+            }
+        }, null);
+    }
+
+    // 유통기한이 지나고 예약도 없는 로트를 메모리에서 정리
+    public void dropExpired(LocalDate today) {
+        for (Lot lot : List.copyOf(lotsById.values())) {
+            if (!lot.expirationDate.isBefore(today)) {
+                continue;
+            }
+            ReentrantLock lock = stripeOf(lot.productId);
+            lock.lock();
+            try {
+                if (lot.held == 0) {
+                    remove(lot);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    // 서버 시작 시 활성 로트와 미처리 예약으로 메모리 상태 복원
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        List<Inventory> activeLots = inventoryRepository.findAllByStatus(LotStatus.ACTIVE);
+        List<InventoryReservation> openReservations = reservationRepository.findAllByStatus(ReservationStatus.RESERVED);
+        // 배송 완료됐지만 로트 차감 전인 예약도 로트에서 빼 둠
+        List<InventoryReservation> unappliedConsumptions =
+                reservationRepository.findAllByStatusAndLotAppliedAtIsNull(ReservationStatus.CONSUMED);
+
+        List<ReentrantLock> locks = lockAllStripes();
+        try {
+            lotsByProductId.clear();
+            lotsById.clear();
+            reservationsByOrderId.clear();
+
+            for (Inventory inventory : activeLots) {
+                Lot lot = new Lot(inventory.getId(), inventory.getProductId(), inventory.getExpirationDate());
+                lot.onHand = inventory.getQuantity();
+                lotsById.put(lot.id, lot);
+                lotsByProductId.computeIfAbsent(lot.productId, k -> new ArrayList<>()).add(lot);
+            }
+            lotsByProductId.values().forEach(lots -> lots.sort(FEFO));
+
+            for (InventoryReservation reservation : openReservations) {
+                ReservedLot reserved = new ReservedLot(
+                        reservation.getOrderId(),
+                        reservation.getProductId(),
+                        reservation.getInventoryId(),
+                        reservation.getQuantity());
+                reservationsByOrderId.computeIfAbsent(reserved.orderId(), k -> new ArrayList<>()).add(reserved);
+
+                Lot lot = lotsById.get(reserved.inventoryId());
+                if (lot != null) {
+                    lot.held += reserved.quantity();
+                }
+            }
+            for (InventoryReservation consumption : unappliedConsumptions) {
+                Lot lot = lotsById.get(consumption.getInventoryId());
+                if (lot != null) {
+                    lot.held += consumption.getQuantity();
+                }
+            }
+        } finally {
+            unlock(locks);
+        }
+        log.info("재고 예약 상태 복원 완료: 로트 {}건, 예약 주문 {}건", lotsById.size(), reservationsByOrderId.size());
+    }
+
+    // 배송 완료로 기록된 예약의 로트/재고 합계 차감을 일괄 반영하고 반영한 예약 수 반환
+    // 실패하면 예약이 그대로 반영 대기로 남아 다음 주기에 다시 시도
+    @Scheduled(fixedDelayString = "${inventory.reservation.flush-interval-ms:200}")
+    public synchronized int flush() {
+        if (!enabled) {
+            return 0;
+        }
+        List<ReservedLot> consumed;
+        try {
+            consumed = reservationWriter.applyConsumed(flushBatchSize);
+        } catch (RuntimeException e) {
+            log.warn("배송 완료 재고 차감 반영 실패, 다음 주기에 재시도", e);
+            return 0;
+        }
+
+        // DB에서 차감된 수량을 메모리 로트에도 반영
+        subtractConsumed(consumed);
+        return consumed.size();
+    }
+
+    private void returnToLots(List<ReservedLot> reserved) {
+        List<ReentrantLock> locks = lockStripes(reserved.stream().map(ReservedLot::productId).toList());
+        try {
+            unhold(reserved);
+        } finally {
+            unlock(locks);
+        }
+    }
+
+    private void subtractConsumed(List<ReservedLot> consumed) {
+        if (consumed.isEmpty()) {
+            return;
+        }
+        List<ReentrantLock> locks = lockStripes(consumed.stream().map(ReservedLot::productId).toList());
+        try {
+            for (ReservedLot reserved : consumed) {
+                Lot lot = lotsById.get(reserved.inventoryId());
+                if (lot == null) {
+                    continue;
+                }
+                lot.onHand -= reserved.quantity();
+                lot.held -= reserved.quantity();
+                if (lot.onHand <= 0 && lot.held <= 0) {
+                    remove(lot);
+                }
+            }
+        } finally {
+            unlock(locks);
+        }
+    }
+
+    // 스트라이프 잠금 안에서 호출
+    private void unhold(List<ReservedLot> reserved) {
+        for (ReservedLot r : reserved) {
+            Lot lot = lotsById.get(r.inventoryId());
+            if (lot != null) {
+                lot.held -= r.quantity();
+            }
+        }
+    }
+
+    // 스트라이프 잠금 안에서 호출
+    private void apply(LotSnapshot snapshot) {
+        Lot lot = lotsById.get(snapshot.id());
+        boolean active = snapshot.status() == LotStatus.ACTIVE && snapshot.quantity() > 0;
+
+        if (lot == null) {
+            if (active) {
+                lot = new Lot(snapshot.id(), snapshot.productId(), snapshot.expirationDate());
+                lot.onHand = snapshot.quantity();
+                lotsById.put(lot.id, lot);
+                List<Lot> lots = lotsByProductId.computeIfAbsent(lot.productId, k -> new ArrayList<>());
+                lots.add(lot);
+                lots.sort(FEFO);
+            }
+            return;
+        }
+
+        lot.onHand = snapshot.quantity();
+        if (!active && lot.held == 0) {
+            remove(lot);
+        }
+    }
+
+    // 스트라이프 잠금 안에서 호출
+    private void remove(Lot lot) {
+        lotsById.remove(lot.id);
+        List<Lot> lots = lotsByProductId.get(lot.productId);
+        if (lots != null) {
+            lots.remove(lot);
+            if (lots.isEmpty()) {
+                lotsByProductId.remove(lot.productId);
+            }
+        }
+    }
+
+    private ReentrantLock stripeOf(Long productId) {
+        return stripes[Math.floorMod(productId.hashCode(), stripes.length)];
+    }
+
+    // 스트라이프 번호 순으로 잠금 (여러 상품을 함께 예약할 때 교착 상태 방지)
+    private List<ReentrantLock> lockStripes(Collection<Long> productIds) {
+        Set<Integer> indexes = new TreeSet<>();
+        for (Long productId : productIds) {
+            indexes.add(Math.floorMod(productId.hashCode(), stripes.length));
+        }
+
+        List<ReentrantLock> locks = new ArrayList<>(indexes.size());
+        for (int index : indexes) {
+            stripes[index].lock();
+            locks.add(stripes[index]);
+        }
+        return locks;
+    }
+
+    private List<ReentrantLock> lockAllStripes() {
+        List<ReentrantLock> locks = new ArrayList<>(stripes.length);
+        for (ReentrantLock stripe : stripes) {
+            stripe.lock();
+            locks.add(stripe);
+        }
+        return locks;
+    }
+
+    private void unlock(List<ReentrantLock> locks) {
+        for (int i = locks.size() - 1; i >= 0; i--) {
+            locks.get(i).unlock();
+        }
+    }
+
+    // 트랜잭션 안이면 완료 시점에, 아니면 바로 실행
+    private void afterCompletion(Runnable onCommit, Runnable onRollback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            if (onCommit != null) {
+                onCommit.run();
+            }
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    if (onCommit != null) {
+                        onCommit.run();
+                    }
+                } else if (onRollback != null) {
+                    onRollback.run();
+                }
+            }
+        });
+    }
+
+    // 메모리 로트 (DB 반영된 수량과 예약/차감 대기 수량)
+    private static final class Lot {
+        private final Long id;
+        private final Long productId;
+        private final LocalDate expirationDate;
+        private int onHand;
+        private int held;
+
+        private Lot(Long id, Long productId, LocalDate expirationDate) {
+            this.id = id;
+            this.productId = productId;
+            this.expirationDate = expirationDate;
+        }
+
+        private int available() {
+            return onHand - held;
+        }
+    }
+
+    private record LotSnapshot(Long id, Long productId, LocalDate expirationDate, int quantity, LotStatus status) {
+    }
+}
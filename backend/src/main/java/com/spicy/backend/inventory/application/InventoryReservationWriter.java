@@ -0,0 +1,68 @@
+package com.spicy.backend.inventory.application;
+
+import com.spicy.backend.inventory.domain.InventoryReservation;
+import com.spicy.backend.inventory.domain.LotStatus;
+import com.spicy.backend.inventory.domain.ReservationStatus;
+import com.spicy.backend.inventory.dto.response.ReservedLot;
+import com.spicy.backend.inventory.storage.InventoryReservationRepository;
+import com.spicy.backend.inventory.storage.InventoryStockRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+// 배송 완료(CONSUMED)로 기록된 예약을 읽어 로트/재고 합계 차감을 한 트랜잭션으로 반영
+// 차감과 반영 표시(lot_applied_at)를 함께 커밋하므로 중간에 서버가 죽어도 한 번만 반영됨
+@Component
+@RequiredArgsConstructor
+public class InventoryReservationWriter {
+    // 가맹점 ID는 한 개로 해놓음
+    private static final Long DEFAULT_STORE_ID = 1L;
+
+    private final InventoryReservationRepository reservationRepository;
+    private final InventoryStockRepository inventoryStockRepository;
+
+    // 반영한 예약 목록 반환 (메모리 로트 수량 갱신용)
+    @Transactional
+    public List<ReservedLot> applyConsumed(int limit) {
+        List<InventoryReservation> reservations = reservationRepository.findByStatusAndLotAppliedAtIsNullOrderByIdAsc(
+                ReservationStatus.CONSUMED, PageRequest.of(0, limit));
+        if (reservations.isEmpty()) {
+            return List.of();
+        }
+
+        List<ReservedLot> consumed = reservations.stream()
+                .map(r -> new ReservedLot(r.getOrderId(), r.getProductId(), r.getInventoryId(), r.getQuantity()))
+                .toList();
+
+        Map<Long, Integer> quantitiesByLotId = new TreeMap<>();
+        for (ReservedLot lot : consumed) {
+            quantitiesByLotId.merge(lot.inventoryId(), lot.quantity(), Integer::sum);
+        }
+
+        // 이미 만료 처리된 로트는 만료 시 재고 합계에서 빠졌으므로 활성 로트만 합계 차감
+        Set<Long> activeLotIds = new HashSet<>(
+                reservationRepository.findLotIdsByStatus(quantitiesByLotId.keySet(), LotStatus.ACTIVE.name()));
+        reservationRepository.bulkDecreaseLotQuantities(quantitiesByLotId);
+
+        Map<Long, Integer> quantitiesByProductId = new TreeMap<>();
+        for (ReservedLot lot : consumed) {
+            if (activeLotIds.contains(lot.inventoryId())) {
+                quantitiesByProductId.merge(lot.productId(), lot.quantity(), Integer::sum);
+            }
+        }
+        // 재고 합계 차감 (상품 ID 순)
+        for (Map.Entry<Long, Integer> entry : quantitiesByProductId.entrySet()) {
+            inventoryStockRepository.addQuantity(DEFAULT_STORE_ID, entry.getKey(), -entry.getValue());
+        }
+
+        reservations.forEach(InventoryReservation::markLotApplied);
+        return consumed;
+    }
+}
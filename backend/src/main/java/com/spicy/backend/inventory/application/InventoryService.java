@@ -2,27 +2,39 @@ package com.spicy.backend.inventory.application;
 
 import com.spicy.backend.global.error.exception.BusinessException;
 import com.spicy.backend.inventory.domain.Inventory;
+import com.spicy.backend.inventory.domain.InventoryStock;
 import com.spicy.backend.inventory.domain.LotStatus;
 import com.spicy.backend.inventory.domain.MinimumProduct;
+import com.spicy.backend.inventory.dto.request.InventoryBatchOutboundRequest;
 import com.spicy.backend.inventory.dto.request.InventoryOutboundRequest;
 import com.spicy.backend.inventory.dto.request.InventoryRequest;
+import com.spicy.backend.inventory.dto.response.InventoryBatchOutboundResponse;
 import com.spicy.backend.inventory.dto.response.InventoryLotResponse;
-import com.spicy.backend.inventory.dto.response.ProductBaseInfo;
+import com.spicy.backend.inventory.dto.response.LotAllocationResponse;
+import com.spicy.backend.inventory.dto.response.OutboundLineResponse;
+import com.spicy.backend.inventory.dto.response.ProductQuantityInfo;
 import com.spicy.backend.inventory.dto.response.ProductResponse;
 import com.spicy.backend.inventory.dto.response.ProductSummaryResponse;
 import com.spicy.backend.inventory.error.InventoryErrorCode;
 import com.spicy.backend.inventory.storage.InventoryRepository;
+import com.spicy.backend.inventory.storage.InventoryStockRepository;
+import com.spicy.backend.inventory.search.ProductNameIndex;
 import com.spicy.backend.inventory.storage.MinimumProductRepository;
+import com.spicy.backend.order.application.ProductCatalog;
+import com.spicy.backend.order.dto.response.ProductInfo;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
 @Transactional
 @Service
@@ -30,85 +42,61 @@ import java.util.Map;
 public class InventoryService {
     // 가맹점 ID는 한 개로 해놓음
     private static final Long DEFAULT_STORE_ID = 1L;
+    // 출고 시 한 번에 잠그는 로트 수
+    private static final int LOCK_PAGE_SIZE = 5;
     final private InventoryRepository inventoryRepository;
     final private MinimumProductRepository minimumProductRepository;
+    final private InventoryStockRepository inventoryStockRepository;
+    final private ProductNameIndex productNameIndex;
+    final private ProductCatalog productCatalog;
+    final private InventoryReservationEngine inventoryReservationEngine;
 
+    @Transactional(readOnly = true)
     public ProductResponse getAllProduct() {
-        // 유통기한 업데이트
-        updateExpiredInventoryStatus();
-
-        // 인벤토리에 있는 InventoryLotResponse형태로 다 가져오기
-        List<InventoryLotResponse> inventoryLotResponses = inventoryRepository.findAllProduct();
+        // 유통기한 만료 처리는 InventoryExpiryScheduler가 날짜가 바뀔 때 수행
+        // 로트 전체가 아닌 상품별 재고 합계만 조회 (로트 상세는 상품 id 조회에서 가져옴)
+        List<InventoryStock> stocks = inventoryStockRepository.findAllByStoreIdOrderByProductIdAsc(DEFAULT_STORE_ID);
 
         // 없으면 예외처리
-        if (inventoryLotResponses.isEmpty()) {
+        if (stocks.isEmpty()) {
             throw new BusinessException(InventoryErrorCode.PRODUCT_NOT_FOUND);
         }
 
-        // productId에 맞춘 InventoryLotResponse HashMap생성
-        HashMap<Long, List<InventoryLotResponse>> inventories = new HashMap<>();
-
-        // 해쉬맵에 productId에 해당하는 값 넣기
-        for (InventoryLotResponse inventoryLotResponse : inventoryLotResponses) {
-            Long id = inventoryLotResponse.productId();
-
-            // 해쉬맵에 해당하는 id가 없을 경우 id값과 배열 선언
-            if (!inventories.containsKey(id)) {
-                inventories.put(id, new ArrayList<>());
-            }
-
-            // 해당 id값에 상품 리스트 넣기
-            inventories.get(id).add(inventoryLotResponse);
-
+        // 가맹점의 최소 수량 한 번에 가져오기 (여러 번 DB에 참조하는 것을 방지)
+        Map<Long, Integer> minimumQuantities = new HashMap<>();
+        for (MinimumProduct minimumProduct : minimumProductRepository.findAllByStoreId(DEFAULT_STORE_ID)) {
+            minimumQuantities.put(minimumProduct.getProductId(), minimumProduct.getMinimumQuantity());
         }
 
-        // 큰 단위 상품 리스트 만들기 (상품A in (상품A1,상품A2,,), 상품B in (상품B1,상품B2,,),,
-        List<ProductSummaryResponse> productSummaries = new ArrayList<>();
-
-        // productSummaries에 넣을 기본 값 가져오기 (여러 번 DB에 참조하는 것을 방지)
-        // 가맹점 늘어날 시 Request로 가맹점 ID를 받아야 할 예정
-        List<ProductBaseInfo> baseInfos = inventoryRepository.findAllProductBaseInfo();
-
-        // 기본 값 해쉬맵 생성
-        Map<Long, ProductBaseInfo> baseInfoMap = new HashMap<>();
-        for (ProductBaseInfo info : baseInfos) {
-            baseInfoMap.put(info.productId(), info);
-        }
+        // 상품 이름/가격은 상품 카탈로그에서 조회
+        Map<Long, ProductInfo> products = productCatalog.getAll(
+                stocks.stream().map(InventoryStock::getProductId).toList());
 
-        // 해쉬맵에서 값 꺼내기
-        for (Map.Entry<Long, List<InventoryLotResponse>> entry : inventories.entrySet()) {
-            Long id = entry.getKey();
-            // id에 알맞은 기본 정보를 꺼내옴
-            ProductBaseInfo productBaseInfo = baseInfoMap.get(id);
+        List<ProductSummaryResponse> productSummaries = new ArrayList<>();
+        for (InventoryStock stock : stocks) {
+            Integer minimumQuantity = minimumQuantities.get(stock.getProductId());
+            ProductInfo product = products.get(stock.getProductId());
 
-            if (productBaseInfo == null) {
+            if (minimumQuantity == null || product == null) {
                 throw new BusinessException(InventoryErrorCode.PRODUCT_NOT_FOUND);
             }
-            // 총 수량 계산
-            int totalQuantity = 0;
-            for (InventoryLotResponse inventoryLotResponse : entry.getValue()) {
-                // 활성화 된 재고만 총 수량에 넣기
-                if (inventoryLotResponse.status() == LotStatus.ACTIVE)
-                    totalQuantity += inventoryLotResponse.quantity();
-            }
 
-            List<InventoryLotResponse> productLotResponses = entry.getValue();
             productSummaries.add(new ProductSummaryResponse(
-                    id,
-                    productBaseInfo.productName(),
-                    productBaseInfo.price(),
-                    productBaseInfo.minimumQuantity(),
-                    totalQuantity,
-                    productLotResponses));
+                    stock.getProductId(),
+                    product.productName(),
+                    product.price(),
+                    minimumQuantity,
+                    stock.getTotalQuantity(),
+                    List.of()));
         }
 
         return new ProductResponse(productSummaries);
 
     }
 
+    @Transactional(readOnly = true)
     public ProductSummaryResponse searchProduct(Long id) {
-        // 유통기한 업데이트
-        updateExpiredInventoryStatus();
+        LocalDate today = LocalDate.now();
         // 해당하는 인벤토리 가져오기
         List<Inventory> inventories = inventoryRepository.findByProductId(id);
         // 없으면 예외처리
@@ -118,138 +106,352 @@ public class InventoryService {
         // 해당하는 상품 최소 수량 가져오기(지금은 가맹점 하나로 치므로 1L로 고정)
         MinimumProduct minimumProducts = minimumProductRepository.findByProductIdAndStoreId(id, DEFAULT_STORE_ID)
                 .orElseThrow(() -> new BusinessException(InventoryErrorCode.PRODUCT_NOT_FOUND));
+        ProductInfo product = productCatalog.find(id)
+                .orElseThrow(() -> new BusinessException(InventoryErrorCode.PRODUCT_NOT_FOUND));
         List<InventoryLotResponse> productLotResponses = new ArrayList<>();
         int totalQuantity = 0;
 
         for (Inventory inventory : inventories) {
-            if (inventory.getStatus() == LotStatus.ACTIVE) {
+            // 조회 시점 기준 상태 (스케줄러 반영 전 만료 로트 포함)
+            LotStatus status = inventory.statusAt(today);
+            if (status == LotStatus.ACTIVE) {
                 totalQuantity += inventory.getQuantity();
             }
             productLotResponses.add(new InventoryLotResponse(
                     inventory.getProductId(),
                     inventory.getQuantity(),
                     inventory.getExpirationDate(),
-                    inventory.getStatus(),
+                    status,
                     inventory.getProductCode()));
         }
         return new ProductSummaryResponse(
-                inventories.get(0).getProductId(),
-                inventories.get(0).getProductName(),
-                inventories.get(0).getPrice(),
+                product.productId(),
+                product.productName(),
+                product.price(),
                 minimumProducts.getMinimumQuantity(),
                 totalQuantity,
                 productLotResponses);
     }
 
+    @Transactional(readOnly = true)
     public List<ProductSummaryResponse> searchByName(String name) {
-        // 유통기한 업데이트
-        updateExpiredInventoryStatus();
-
-        List<Inventory> inventories = inventoryRepository.findByProductNameContaining(name);
+        LocalDate today = LocalDate.now();
+        // 이름 인덱스에서 상품 ID 검색 (LIKE '%name%' 전체 스캔 방지)
+        List<Long> productIds = productNameIndex.search(name);
         // 없으면 예외처리
-        if (inventories.isEmpty()) {
+        if (productIds.isEmpty()) {
             throw new BusinessException(InventoryErrorCode.PRODUCT_NOT_FOUND);
         }
 
-        // productId별로 그룹화
-        Map<Long, List<Inventory>> grouped = new HashMap<>();
-        for (Inventory i : inventories) {
-            grouped.computeIfAbsent(i.getProductId(), k -> new ArrayList<>()).add(i);
+        // productId별로 그룹화 (상품 ID 순)
+        Map<Long, List<Inventory>> grouped = new LinkedHashMap<>();
+        for (Long productId : productIds) {
+            grouped.put(productId, new ArrayList<>());
+        }
+        for (Inventory i : inventoryRepository.findByProductIdIn(productIds)) {
+            grouped.get(i.getProductId()).add(i);
+        }
+
+        // 검색된 상품의 최소 수량 한 번에 가져오기
+        Map<Long, Integer> minimumQuantities = new HashMap<>();
+        for (MinimumProduct minimumProduct : minimumProductRepository.findAllByProductIdInAndStoreId(productIds, DEFAULT_STORE_ID)) {
+            minimumQuantities.put(minimumProduct.getProductId(), minimumProduct.getMinimumQuantity());
         }
+        Map<Long, ProductInfo> products = productCatalog.getAll(productIds);
 
         List<ProductSummaryResponse> results = new ArrayList<>();
         for (Map.Entry<Long, List<Inventory>> entry : grouped.entrySet()) {
-            Long id = entry.getKey();
             List<Inventory> productInventories = entry.getValue();
+            if (productInventories.isEmpty()) {
+                continue;
+            }
 
-            MinimumProduct minimumProducts = minimumProductRepository.findByProductIdAndStoreId(id, DEFAULT_STORE_ID)
-                    .orElseThrow(() -> new BusinessException(InventoryErrorCode.PRODUCT_NOT_FOUND));
+            Integer minimumQuantity = minimumQuantities.get(entry.getKey());
+            ProductInfo product = products.get(entry.getKey());
+            if (minimumQuantity == null || product == null) {
+                throw new BusinessException(InventoryErrorCode.PRODUCT_NOT_FOUND);
+            }
 
             List<InventoryLotResponse> productLotResponses = new ArrayList<>();
             int totalQuantity = 0;
 
             for (Inventory inventory : productInventories) {
-                if (inventory.getStatus() == LotStatus.ACTIVE) {
+                // 조회 시점 기준 상태 (스케줄러 반영 전 만료 로트 포함)
+                LotStatus status = inventory.statusAt(today);
+                if (status == LotStatus.ACTIVE) {
                     totalQuantity += inventory.getQuantity();
                 }
                 productLotResponses.add(new InventoryLotResponse(
                         inventory.getProductId(),
                         inventory.getQuantity(),
                         inventory.getExpirationDate(),
-                        inventory.getStatus(),
+                        status,
                         inventory.getProductCode()));
             }
 
             results.add(new ProductSummaryResponse(
-                    productInventories.get(0).getProductId(),
-                    productInventories.get(0).getProductName(),
-                    productInventories.get(0).getPrice(),
-                    minimumProducts.getMinimumQuantity(),
+                    product.productId(),
+                    product.productName(),
+                    product.price(),
+                    minimumQuantity,
                     totalQuantity,
                     productLotResponses));
         }
+
+        // 인덱스에는 있지만 로트가 모두 삭제된 경우
+        if (results.isEmpty()) {
+            throw new BusinessException(InventoryErrorCode.PRODUCT_NOT_FOUND);
+        }
         return results;
     }
 
     public Void inbound(@Valid InventoryRequest inventoryRequest) {
-        Inventory inventory = inventoryRepository.findFirstByProductNameOrderByIdAsc(inventoryRequest.name())
+        ProductInfo product = productCatalog.findByName(inventoryRequest.name())
                 .orElseThrow(() -> new BusinessException(InventoryErrorCode.PRODUCT_NOT_FOUND));
 
+        // 이미 유통기한이 지난 로트는 만료 상태로 입고 (만료 스케줄러 집계와 어긋나지 않도록)
+        LotStatus status = inventoryRequest.expirationDate().isBefore(LocalDate.now())
+                ? LotStatus.EXPIRED
+                : LotStatus.ACTIVE;
+
         Inventory insertInventory = Inventory.builder()
-                .productId(inventory.getProductId())
+                .productId(product.productId())
                 .quantity(inventoryRequest.quantity())
                 .expirationDate(inventoryRequest.expirationDate())
-                .status(LotStatus.ACTIVE)
-                .productName(inventory.getProductName())
+                .status(status)
                 .productCode(inventoryRequest.productCode())
-                .price(inventory.getPrice())
-                .description(inventory.getDescription())
                 .build();
         inventoryRepository.save(insertInventory);
+        productNameIndex.put(product.productId(), product.productName());
+
+        // 재고 합계 증가
+        if (status == LotStatus.ACTIVE) {
+            increaseStock(insertInventory);
+        }
+        // 새 로트를 예약 가능 재고에 추가
+        inventoryReservationEngine.syncLots(List.of(insertInventory));
         return null;
     }
 
     public Void outbound(@Valid InventoryOutboundRequest request) {
-        int count = request.quantity();
         LocalDate targetDate = LocalDate.now().plusMonths(request.monthsUntilExpiration());
+        Long productId = resolveProductId(request.name());
+
+        List<Inventory> lockedLots = new ArrayList<>();
+        List<LotAllocationResponse> allocations = new ArrayList<>();
+        int remaining = request.quantity();
+
+        // 유통기한 빠른 순으로 필요한 만큼만 페이지 단위로 잠그며 차감 (다른 출고가 잡은 로트는 건너뜀)
+        LocalDate afterDate = targetDate;
+        Long afterId = 0L;
+        while (remaining > 0) {
+            List<Inventory> page = inventoryRepository.findValidProductsPageSkipLocked(
+                    productId, targetDate, afterDate, afterId, PageRequest.of(0, LOCK_PAGE_SIZE));
+            if (page.isEmpty()) {
+                break;
+            }
 
-        List<Inventory> inventories = inventoryRepository.findValidProductsWithLock(request.name(), targetDate);
+            lockedLots.addAll(page);
+            remaining = takeFefo(page, remaining, targetDate, allocations);
 
-        for (Inventory inventory : inventories) {
-            int available = inventory.getQuantity();
-            if (available >= count) {
-                inventory.decreaseQuantity(count);
-                count = 0;
-                break;
-            } else {
-                inventory.decreaseQuantity(available);
-                count -= available;
+            Inventory last = page.get(page.size() - 1);
+            afterDate = last.getExpirationDate();
+            afterId = last.getId();
+        }
+
+        // 건너뛴 로트까지 필요하면 대기하며 잠금 (잡고 있던 출고가 롤백될 수 있으므로)
+        // 이미 잠근 로트는 빼고 처음부터 다시 유통기한-ID 순으로 필요한 만큼만 잠금
+        if (remaining > 0) {
+            List<Long> excludedIds = new ArrayList<>(lockedLots.stream().map(Inventory::getId).toList());
+            // 빈 IN 목록 방지 (로트 ID는 1부터)
+            excludedIds.add(0L);
+
+            afterDate = targetDate;
+            afterId = 0L;
+            while (remaining > 0) {
+                List<Inventory> page = inventoryRepository.findValidProductsPageWithLock(
+                        productId, targetDate, afterDate, afterId, excludedIds, PageRequest.of(0, LOCK_PAGE_SIZE));
+                if (page.isEmpty()) {
+                    break;
+                }
+
+                lockedLots.addAll(page);
+                remaining = takeFefo(page, remaining, targetDate, allocations);
+
+                Inventory last = page.get(page.size() - 1);
+                afterDate = last.getExpirationDate();
+                afterId = last.getId();
             }
         }
 
         // 재고 부족 시 예외 발생
-        if (count > 0) {
+        if (remaining > 0) {
             throw new BusinessException(InventoryErrorCode.OUT_OF_STOCK);
         }
 
+        inventoryRepository.saveAll(lockedLots);
+        inventoryReservationEngine.syncLots(lockedLots);
+
+        // 재고 합계 차감
+        inventoryStockRepository.addQuantity(DEFAULT_STORE_ID, productId, -request.quantity());
+
+        return null;
+    }
+
+    public Void outboundOptimistic(@Valid InventoryOutboundRequest request) {
+        LocalDate targetDate = LocalDate.now().plusMonths(request.monthsUntilExpiration());
+
+        Long productId = resolveProductId(request.name());
+
+        // 잠금 없이 조회 후 차감 (커밋 시 버전이 바뀌었으면 충돌 예외)
+        List<Inventory> inventories = inventoryRepository.findValidProducts(productId, targetDate);
+        allocateFefo(inventories, request.quantity(), targetDate);
+
         inventoryRepository.saveAll(inventories);
+        inventoryReservationEngine.syncLots(inventories);
+
+        // 재고 합계 차감
+        inventoryStockRepository.addQuantity(DEFAULT_STORE_ID, productId, -request.quantity());
 
         return null;
     }
 
-    public void updateExpiredInventoryStatus() {
+    public InventoryBatchOutboundResponse outboundBatch(@Valid InventoryBatchOutboundRequest request) {
         LocalDate today = LocalDate.now();
 
-        // 만료된 재고만 DB에서 바로 가져오기
-        List<Inventory> expiredInventories = inventoryRepository.findExpiredInventories(today);
+        // 품목 중 가장 짧은 적정 유통기한 기준으로 한 번에 잠금 (품목별 기준은 차감 시 다시 확인)
+        int minMonths = request.items().stream()
+                .mapToInt(InventoryOutboundRequest::monthsUntilExpiration)
+                .min()
+                .orElseThrow();
+        // 상품 이름 -> 상품 ID
+        Map<String, Long> productIds = new LinkedHashMap<>();
+        for (InventoryOutboundRequest item : request.items()) {
+            productIds.computeIfAbsent(item.name(), this::resolveProductId);
+        }
+
+        // 상품 ID 순서로 모든 로트를 한 번에 잠금 (교착 상태 방지)
+        List<Inventory> lockedLots = inventoryRepository.findValidProductsWithLockByProductIds(
+                productIds.values().stream().distinct().toList(), today.plusMonths(minMonths));
+
+        // 상품별 로트 목록 (유통기한 빠른 순 유지)
+        Map<Long, List<Inventory>> lotsByProductId = new HashMap<>();
+        for (Inventory lot : lockedLots) {
+            lotsByProductId.computeIfAbsent(lot.getProductId(), k -> new ArrayList<>()).add(lot);
+        }
+
+        List<OutboundLineResponse> lines = new ArrayList<>();
+        Map<Long, Integer> consumedQuantities = new TreeMap<>();
+        for (InventoryOutboundRequest item : request.items()) {
+            LocalDate targetDate = today.plusMonths(item.monthsUntilExpiration());
+            Long productId = productIds.get(item.name());
+            List<Inventory> lots = lotsByProductId.getOrDefault(productId, List.of());
+
+            // 한 품목이라도 부족하면 예외로 전체 롤백
+            List<LotAllocationResponse> allocations = allocateFefo(lots, item.quantity(), targetDate);
 
-        // 상태 변경
-        for (Inventory inventory : expiredInventories) {
-            inventory.markAsExpired(); // Inventory 엔티티에 상태 변경 메서드
+            lines.add(new OutboundLineResponse(item.name(), item.quantity(), allocations));
+            consumedQuantities.merge(productId, item.quantity(), Integer::sum);
         }
 
-        // 한 번에 DB 저장
-        inventoryRepository.saveAll(expiredInventories);
+        inventoryRepository.saveAll(lockedLots);
+        inventoryReservationEngine.syncLots(lockedLots);
+
+        // 재고 합계 차감 (상품 ID 순)
+        for (Map.Entry<Long, Integer> entry : consumedQuantities.entrySet()) {
+            inventoryStockRepository.addQuantity(DEFAULT_STORE_ID, entry.getKey(), -entry.getValue());
+        }
+
+        return new InventoryBatchOutboundResponse(lines);
+    }
+
+    public int expireInventories(LocalDate today) {
+        // 만료 대상 수량을 상품별로 먼저 집계
+        List<ProductQuantityInfo> expiredQuantities = inventoryRepository.sumExpiringQuantityByProduct(today);
+        if (expiredQuantities.isEmpty()) {
+            return 0;
+        }
+
+        // 만료된 로트를 한 번의 UPDATE로 처리
+        int expiredCount = inventoryRepository.bulkExpire(today);
+
+        // 만료된 수량만큼 재고 합계 차감
+        for (ProductQuantityInfo info : expiredQuantities) {
+            inventoryStockRepository.addQuantity(DEFAULT_STORE_ID, info.productId(), -info.quantity().intValue());
+        }
+        return expiredCount;
+    }
+
+    public void rebuildStockSummary() {
+        // 기존 로트 테이블에서 상품별 활성 재고를 다시 집계해 합계 테이블을 채움
+        inventoryStockRepository.deleteAllInBatch();
+
+        List<InventoryStock> stocks = new ArrayList<>();
+        for (ProductQuantityInfo info : inventoryRepository.sumActiveQuantityByProduct()) {
+            stocks.add(InventoryStock.builder()
+                    .storeId(DEFAULT_STORE_ID)
+                    .productId(info.productId())
+                    .totalQuantity(info.quantity().intValue())
+                    .build());
+        }
+        inventoryStockRepository.saveAll(stocks);
+    }
+
+    private Long resolveProductId(String name) {
+        return productCatalog.findByName(name)
+                .map(ProductInfo::productId)
+                .orElseThrow(() -> new BusinessException(InventoryErrorCode.PRODUCT_NOT_FOUND));
+    }
+
+    private List<LotAllocationResponse> allocateFefo(List<Inventory> lots, int quantity, LocalDate targetDate) {
+        List<LotAllocationResponse> allocations = new ArrayList<>();
+
+        // 재고 부족 시 예외 발생
+        if (takeFefo(lots, quantity, targetDate, allocations) > 0) {
+            throw new BusinessException(InventoryErrorCode.OUT_OF_STOCK);
+        }
+        return allocations;
+    }
+
+    // 유통기한 빠른 순으로 차감하고 남은 수량 반환
+    private int takeFefo(List<Inventory> lots, int quantity, LocalDate targetDate, List<LotAllocationResponse> allocations) {
+        int count = quantity;
+
+        for (Inventory lot : lots) {
+            if (count == 0) {
+                break;
+            }
+            // 적정 유통기한 미달이거나 앞에서 이미 소진된 로트는 건너뜀
+            if (lot.getExpirationDate().isBefore(targetDate) || lot.getStatus() != LotStatus.ACTIVE) {
+                continue;
+            }
+
+            // 주문에 예약된 수량은 출고하지 않음
+            int free = lot.getQuantity() - inventoryReservationEngine.heldQuantity(lot.getId());
+            if (free <= 0) {
+                continue;
+            }
+
+            int taken = Math.min(free, count);
+            lot.decreaseQuantity(taken);
+            allocations.add(new LotAllocationResponse(lot.getId(), taken));
+            count -= taken;
+        }
+        return count;
+    }
+
+    private void increaseStock(Inventory inventory) {
+        int updated = inventoryStockRepository.addQuantity(
+                DEFAULT_STORE_ID, inventory.getProductId(), inventory.getQuantity());
+
+        // 합계 행이 없으면 새로 생성
+        if (updated == 0) {
+            inventoryStockRepository.save(InventoryStock.builder()
+                    .storeId(DEFAULT_STORE_ID)
+                    .productId(inventory.getProductId())
+                    .totalQuantity(inventory.getQuantity())
+                    .build());
+        }
     }
 
 }
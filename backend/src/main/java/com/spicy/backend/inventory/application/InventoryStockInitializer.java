@@ -0,0 +1,46 @@
+package com.spicy.backend.inventory.application;
+
+import com.spicy.backend.inventory.search.ProductNameIndex;
+import com.spicy.backend.inventory.storage.InventoryStockRepository;
+import com.spicy.backend.order.application.ProductCatalog;
+import com.spicy.backend.order.dto.response.ProductInfo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InventoryStockInitializer implements ApplicationRunner {
+
+    private final InventoryStockRepository inventoryStockRepository;
+    private final InventoryService inventoryService;
+    private final ProductNameIndex productNameIndex;
+    private final ProductCatalog productCatalog;
+    private final InventoryReservationEngine inventoryReservationEngine;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        // 재고 합계 테이블이 비어 있으면 (최초 배포 등) 기존 로트에서 한 번 채워 넣음
+        if (inventoryStockRepository.count() == 0) {
+            inventoryService.rebuildStockSummary();
+            log.info("재고 합계 테이블 초기화 완료");
+        }
+
+        // 상품 카탈로그 캐시 워밍업 후 상품 이름 검색 인덱스 적재
+        Map<Long, String> productNames = new HashMap<>();
+        for (ProductInfo product : productCatalog.loadAll()) {
+            productNames.put(product.productId(), product.productName());
+        }
+        productNameIndex.rebuild(productNames);
+        log.info("상품 이름 검색 인덱스 적재 완료: {}건", productNames.size());
+
+        // 활성 로트와 미처리 예약으로 재고 예약 상태 복원
+        inventoryReservationEngine.rebuild();
+    }
+}
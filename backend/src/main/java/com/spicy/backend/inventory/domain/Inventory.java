@@ -10,13 +10,16 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Builder
@@ -24,13 +27,21 @@ import java.time.LocalDate;
 @Getter
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        indexes = {
+                @Index(
+                        name = "idx_inventory_product_status_expiration",
+                        columnList = "product_id, status, expiration_date"
+                )
+        }
+)
 public class Inventory extends BaseEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    //상품ID
-    @Column(nullable = false)
+    //상품ID (상품 이름/가격/설명은 상품 마스터에서 조회)
+    @Column(name = "product_id", nullable = false)
     private Long productId;
 
     //수량
@@ -38,29 +49,23 @@ public class Inventory extends BaseEntity {
     private int quantity;
 
     //유통기한
-    @Column(nullable = false)
+    @Column(name = "expiration_date", nullable = false)
     private LocalDate expirationDate;
 
     //상품상태
     @Enumerated(EnumType.STRING)
-    @Column(nullable = false)
+    @Column(name = "status", nullable = false)
     private LotStatus status;
 
-    //상품이름
-    @Column(nullable = false)
-    private String productName;
-
     //상품 일련번호
     @Column(nullable = false)
     private String productCode;
 
-    //상품 가격
+    //낙관적 락 버전 (낙관적 출고 모드에서 동시 수정 감지)
+    @Version
+    @ColumnDefault("0")
     @Column(nullable = false)
-    private BigDecimal price;
-
-    //상품 설명
-    @Column(nullable = false)
-    private String description;
+    private Long version;
 
     public void decreaseQuantity(int amount) {
         if (amount > this.quantity) {
@@ -73,6 +78,14 @@ public class Inventory extends BaseEntity {
         }
     }
 
+    // 만료 스케줄러가 아직 반영하지 못한 로트도 기준일로 만료 여부 판단
+    public LotStatus statusAt(LocalDate date) {
+        if (this.status == LotStatus.ACTIVE && this.expirationDate.isBefore(date)) {
+            return LotStatus.EXPIRED;
+        }
+        return this.status;
+    }
+
     public void markAsExpired() {
         if (this.status != LotStatus.EXPIRED) {
             this.status = LotStatus.EXPIRED;
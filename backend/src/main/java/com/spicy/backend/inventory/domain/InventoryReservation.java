@@ -0,0 +1,67 @@
+package com.spicy.backend.inventory.domain;
+
+import com.spicy.backend.global.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 주문별 로트 예약 내역 (주문/취소/배송 완료 트랜잭션 안에서 기록)
+@Builder
+@Entity
+@Getter
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "inventory_reservation",
+        indexes = {
+                @Index(name = "idx_inventory_reservation_order", columnList = "order_id"),
+                @Index(name = "idx_inventory_reservation_status", columnList = "status")
+        }
+)
+public class InventoryReservation extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    //주문ID
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    //상품ID
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    //예약한 로트(inventory) ID
+    @Column(name = "inventory_id", nullable = false)
+    private Long inventoryId;
+
+    //예약 수량
+    @Column(nullable = false)
+    private int quantity;
+
+    //예약 상태
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private ReservationStatus status;
+
+    //배송 완료(CONSUMED) 후 로트/재고 합계 차감을 반영한 시각 (null이면 반영 대기)
+    @Column(name = "lot_applied_at")
+    private LocalDateTime lotAppliedAt;
+
+    public void markLotApplied() {
+        this.lotAppliedAt = LocalDateTime.now();
+    }
+}
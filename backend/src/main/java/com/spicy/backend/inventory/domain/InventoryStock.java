@@ -0,0 +1,47 @@
+package com.spicy.backend.inventory.domain;
+
+import com.spicy.backend.global.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 가맹점 + 상품 단위 재고 합계 (입고/출고/유통기한 만료 시 증분 갱신)
+@Builder
+@Entity
+@Getter
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "uk_inventory_stock_store_product",
+                        columnNames = {"store_id", "product_id"}
+                )
+        }
+)
+public class InventoryStock extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    //가맹점ID
+    @Column(name = "store_id", nullable = false)
+    private Long storeId;
+
+    //상품ID
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    //활성(ACTIVE) 재고 총 수량
+    @Column(nullable = false)
+    private int totalQuantity;
+}
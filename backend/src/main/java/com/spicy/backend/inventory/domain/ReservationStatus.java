@@ -0,0 +1,7 @@
+package com.spicy.backend.inventory.domain;
+
+public enum ReservationStatus {
+    RESERVED,   // 주문 생성으로 예약됨
+    RELEASED,   // 주문 취소로 예약 해제
+    CONSUMED    // 배송 완료로 실제 차감
+}
@@ -0,0 +1,13 @@
+package com.spicy.backend.inventory.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+public record InventoryBatchOutboundRequest(
+        // 출고 품목 목록
+        @NotEmpty(message = "출고 품목은 1개 이상이어야 합니다.")
+        List<@Valid InventoryOutboundRequest> items
+) {
+}
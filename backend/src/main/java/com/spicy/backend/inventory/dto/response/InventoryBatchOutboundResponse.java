@@ -0,0 +1,8 @@
+package com.spicy.backend.inventory.dto.response;
+
+import java.util.List;
+
+public record InventoryBatchOutboundResponse(
+        List<OutboundLineResponse> lines
+) {
+}
@@ -0,0 +1,9 @@
+package com.spicy.backend.inventory.dto.response;
+
+public record LotAllocationResponse(
+        // 재고 로트 ID
+        Long lotId,
+        // 차감 수량
+        int quantity
+) {
+}
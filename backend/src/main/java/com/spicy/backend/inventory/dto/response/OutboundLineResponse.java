@@ -0,0 +1,13 @@
+package com.spicy.backend.inventory.dto.response;
+
+import java.util.List;
+
+public record OutboundLineResponse(
+        // 상품 이름
+        String name,
+        // 요청 수량
+        int quantity,
+        // 로트별 차감 내역 (유통기한 빠른 순)
+        List<LotAllocationResponse> allocations
+) {
+}
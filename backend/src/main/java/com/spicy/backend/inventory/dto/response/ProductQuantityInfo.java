@@ -0,0 +1,6 @@
+package com.spicy.backend.inventory.dto.response;
+
+public record ProductQuantityInfo(
+        Long productId,
+        Long quantity
+) {}
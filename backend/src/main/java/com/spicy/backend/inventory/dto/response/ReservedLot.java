@@ -0,0 +1,10 @@
+package com.spicy.backend.inventory.dto.response;
+
+// 주문 하나가 로트 하나에서 예약한 수량
+public record ReservedLot(
+        Long orderId,
+        Long productId,
+        Long inventoryId,
+        int quantity
+) {
+}
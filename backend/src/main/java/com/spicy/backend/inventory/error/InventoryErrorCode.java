@@ -11,7 +11,9 @@ public enum InventoryErrorCode implements BaseErrorCode {
     // 재고 부족 Error
     OUT_OF_STOCK(HttpStatus.BAD_REQUEST, "재고가 부족합니다.", "G009"),
     // 상품 Not Found Error
-    PRODUCT_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 상품을 찾을 수 없습니다.", "G010");
+    PRODUCT_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 상품을 찾을 수 없습니다.", "G010"),
+    // 낙관적 출고 재시도 초과 Error
+    OUTBOUND_CONFLICT(HttpStatus.CONFLICT, "동시에 다른 출고가 진행 중입니다. 잠시 후 다시 시도해주세요.", "G011");
 
     private final HttpStatus status;
     private final String message;
@@ -0,0 +1,117 @@
+package com.spicy.backend.inventory.search;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 상품 이름 검색용 메모리 인덱스 (자모 단위 2-gram으로 후보를 좁히고 음절 단위로 앞/중간 부분 일치 확인)
+// 공백은 무시하므로 "사이 다"로도 "사이다"를 찾음 (기존 LIKE 검색은 공백까지 그대로 비교)
+@Component
+public class ProductNameIndex {
+
+    private static final int GRAM_SIZE = 2;
+
+    // 상품 ID -> 공백을 지운 소문자 상품 이름
+    private final Map<Long, String> names = new ConcurrentHashMap<>();
+
+    // 2-gram -> 해당 gram을 포함하는 상품 ID
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+
+    public synchronized void put(Long productId, String productName) {
+        String name = HangulJamo.normalize(productName);
+        String previous = names.put(productId, name);
+        if (name.equals(previous)) {
+            return;
+        }
+
+        // 이름이 바뀐 경우 이전 gram 제거
+        if (previous != null) {
+            for (String gram : grams(HangulJamo.decompose(previous))) {
+                postings.computeIfPresent(gram, (key, ids) -> {
+                    ids.remove(productId);
+                    return ids.isEmpty() ? null : ids;
+                });
+            }
+        }
+
+        for (String gram : grams(HangulJamo.decompose(name))) {
+            postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(productId);
+        }
+    }
+
+    public synchronized void rebuild(Map<Long, String> productNames) {
+        names.clear();
+        postings.clear();
+        productNames.forEach(this::put);
+    }
+
+    public List<Long> search(String query) {
+        String normalizedQuery = HangulJamo.normalize(query);
+        String jamoQuery = HangulJamo.decompose(normalizedQuery);
+        if (jamoQuery.isEmpty()) {
+            return List.of();
+        }
+
+        // 후보 상품: 검색어의 gram 중 가장 적은 상품을 가진 목록
+        Collection<Long> candidates;
+        if (jamoQuery.length() < GRAM_SIZE) {
+            candidates = names.keySet();
+        } else {
+            Set<Long> smallest = null;
+            for (String gram : grams(jamoQuery)) {
+                Set<Long> ids = postings.get(gram);
+                if (ids == null) {
+                    return List.of();
+                }
+                if (smallest == null || ids.size() < smallest.size()) {
+                    smallest = ids;
+                }
+            }
+            candidates = smallest;
+        }
+
+        // gram 조합만으로는 순서도, 음절 경계도 보장되지 않으므로 ("가나"의 자모에 "간"이 들어 있음) 음절 단위로 확인
+        List<Long> result = new ArrayList<>();
+        for (Long productId : candidates) {
+            String name = names.get(productId);
+            if (name != null && matches(name, normalizedQuery)) {
+                result.add(productId);
+            }
+        }
+        result.sort(null);
+        return result;
+    }
+
+    // 완성된 음절로 끝나면 음절 단위 포함 여부,
+    // 입력 중인 자모로 끝나면 앞 음절들이 일치하고 바로 다음 음절이 그 자모로 시작하는지 확인 ("사ㅇ" -> "사이다")
+    private static boolean matches(String name, String query) {
+        char last = query.charAt(query.length() - 1);
+        if (!HangulJamo.isJamo(last)) {
+            return name.contains(query);
+        }
+
+        String prefix = query.substring(0, query.length() - 1);
+        String lastJamo = HangulJamo.decompose(last);
+        for (int i = name.indexOf(prefix); i >= 0 && i + prefix.length() < name.length();
+             i = name.indexOf(prefix, i + 1)) {
+            if (HangulJamo.decompose(name.charAt(i + prefix.length())).startsWith(lastJamo)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Set<String> grams(String jamo) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= jamo.length(); i++) {
+            grams.add(jamo.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+}
@@ -1,66 +1,143 @@
 package com.spicy.backend.inventory.storage;
 
 import com.spicy.backend.inventory.domain.Inventory;
-import com.spicy.backend.inventory.dto.response.InventoryLotResponse;
-import com.spicy.backend.inventory.dto.response.ProductBaseInfo;
+import com.spicy.backend.inventory.domain.LotStatus;
+import com.spicy.backend.inventory.dto.response.ProductQuantityInfo;
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Optional;
 
 @Repository
 public interface InventoryRepository extends JpaRepository<Inventory, Long> {
 
+    // 재고 합계 테이블 재구성용 상품별 활성 재고 집계
     @Query("""
-                select new com.spicy.backend.inventory.dto.response.InventoryLotResponse(
+                select new com.spicy.backend.inventory.dto.response.ProductQuantityInfo(
                     i.productId,
-                    i.quantity,
-                    i.expirationDate,
-                    i.status,
-                    i.productCode
+                    sum(case when i.status = 'ACTIVE' then i.quantity else 0 end)
                 )
                 from Inventory i
+                group by i.productId
             """)
-    List<InventoryLotResponse> findAllProduct();
+    List<ProductQuantityInfo> sumActiveQuantityByProduct();
 
+    List<Inventory> findByProductId(Long id);
+
+    // 재고 예약 메모리 상태 복원용
+    List<Inventory> findAllByStatus(LotStatus status);
+
+    List<Inventory> findByProductIdIn(List<Long> productIds);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("""
-                select new com.spicy.backend.inventory.dto.response.ProductBaseInfo(
-                    i.productId,
-                    i.productName,
-                    i.price,
-                    m.minimumQuantity
-                )
+                select i
                 from Inventory i
-                join MinimumProduct m on i.productId = m.productId
-                group by i.productId, i.productName, i.price, m.minimumQuantity
+                where i.productId = :productId
+                  and i.expirationDate >= :targetDate
+                  and i.status = 'ACTIVE'
+                order by i.expirationDate asc, i.id asc
             """)
-    List<ProductBaseInfo> findAllProductBaseInfo();
+    List<Inventory> findValidProductsWithLock(
+            @Param("productId") Long productId,
+            @Param("targetDate") LocalDate targetDate);
 
-    List<Inventory> findByProductId(Long id);
+    // 낙관적 출고용 (잠금 없이 조회, 저장 시 버전으로 충돌 감지)
+    @Query("""
+                select i
+                from Inventory i
+                where i.productId = :productId
+                  and i.expirationDate >= :targetDate
+                  and i.status = 'ACTIVE'
+                order by i.expirationDate asc, i.id asc
+            """)
+    List<Inventory> findValidProducts(
+            @Param("productId") Long productId,
+            @Param("targetDate") LocalDate targetDate);
 
-    List<Inventory> findByProductNameContaining(String name);
+    // 유통기한 순으로 필요한 만큼만 페이지 단위 잠금 (다른 트랜잭션이 잡은 로트는 SKIP LOCKED로 건너뜀)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+                select i
+                from Inventory i
+                where i.productId = :productId
+                  and i.expirationDate >= :targetDate
+                  and i.status = 'ACTIVE'
+                  and (i.expirationDate > :afterDate
+                       or (i.expirationDate = :afterDate and i.id > :afterId))
+                order by i.expirationDate asc, i.id asc
+            """)
+    List<Inventory> findValidProductsPageSkipLocked(
+            @Param("productId") Long productId,
+            @Param("targetDate") LocalDate targetDate,
+            @Param("afterDate") LocalDate afterDate,
+            @Param("afterId") Long afterId,
+            Pageable pageable);
 
-    Optional<Inventory> findFirstByProductNameOrderByIdAsc(String name);
+    // SKIP LOCKED로 건너뛴 로트를 대기하며 페이지 단위 잠금 (이미 잠근 로트 제외, 유통기한-ID 순으로 잠금 순서 고정)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+                select i
+                from Inventory i
+                where i.productId = :productId
+                  and i.expirationDate >= :targetDate
+                  and i.status = 'ACTIVE'
+                  and i.id not in :excludedIds
+                  and (i.expirationDate > :afterDate
+                       or (i.expirationDate = :afterDate and i.id > :afterId))
+                order by i.expirationDate asc, i.id asc
+            """)
+    List<Inventory> findValidProductsPageWithLock(
+            @Param("productId") Long productId,
+            @Param("targetDate") LocalDate targetDate,
+            @Param("afterDate") LocalDate afterDate,
+            @Param("afterId") Long afterId,
+            @Param("excludedIds") List<Long> excludedIds,
+            Pageable pageable);
 
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("""
                 select i
                 from Inventory i
-                where i.productName = :name
+                where i.productId in :productIds
                   and i.expirationDate >= :targetDate
                   and i.status = 'ACTIVE'
-                order by i.expirationDate asc
+                order by i.productId asc, i.expirationDate asc, i.id asc
             """)
-    List<Inventory> findValidProductsWithLock(
-            @Param("name") String name,
+    List<Inventory> findValidProductsWithLockByProductIds(
+            @Param("productIds") List<Long> productIds,
             @Param("targetDate") LocalDate targetDate);
 
-    @Query("select i from Inventory i where i.expirationDate < :today AND i.status = 'ACTIVE'")
-    List<Inventory> findExpiredInventories(@Param("today") LocalDate today);
+    // 만료 처리 전 상품별 만료 대상 수량 집계 (재고 합계 차감용)
+    @Query("""
+                select new com.spicy.backend.inventory.dto.response.ProductQuantityInfo(
+                    i.productId,
+                    sum(i.quantity)
+                )
+                from Inventory i
+                where i.expirationDate < :today
+                  and i.status = 'ACTIVE'
+                group by i.productId
+            """)
+    List<ProductQuantityInfo> sumExpiringQuantityByProduct(@Param("today") LocalDate today);
+
+    // 만료된 로트를 한 번의 UPDATE로 처리
+    @Modifying(clearAutomatically = true)
+    @Query("""
+                update versioned Inventory i
+                set i.status = com.spicy.backend.inventory.domain.LotStatus.EXPIRED
+                where i.expirationDate < :today
+                  and i.status = 'ACTIVE'
+            """)
+    int bulkExpire(@Param("today") LocalDate today);
 }
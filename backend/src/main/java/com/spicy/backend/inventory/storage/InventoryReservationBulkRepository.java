@@ -0,0 +1,22 @@
+package com.spicy.backend.inventory.storage;
+
+import com.spicy.backend.inventory.domain.ReservationStatus;
+import com.spicy.backend.inventory.dto.response.ReservedLot;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface InventoryReservationBulkRepository {
+    // 예약 내역을 다중 행 INSERT로 저장
+    void bulkInsertReservations(List<ReservedLot> reservations);
+
+    // 주문들의 예약 상태를 한 번에 변경 (from 상태인 행만)
+    int updateStatusByOrderIds(Collection<Long> orderIds, ReservationStatus from, ReservationStatus to);
+
+    // 로트 ID 중 해당 상태인 것만 조회
+    List<Long> findLotIdsByStatus(Collection<Long> lotIds, String lotStatus);
+
+    // 로트별 차감 수량을 배치 UPDATE로 반영 (0이 되면 소진 처리)
+    void bulkDecreaseLotQuantities(Map<Long, Integer> quantitiesByLotId);
+}
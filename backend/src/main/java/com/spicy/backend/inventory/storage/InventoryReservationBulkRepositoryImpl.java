@@ -0,0 +1,104 @@
+package com.spicy.backend.inventory.storage;
+
+import com.spicy.backend.inventory.domain.ReservationStatus;
+import com.spicy.backend.inventory.dto.response.ReservedLot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class InventoryReservationBulkRepositoryImpl implements InventoryReservationBulkRepository {
+    // 한 번의 INSERT 문에 담는 최대 행 수 (max_allowed_packet 여유)
+    private static final int CHUNK_SIZE = 500;
+    private static final int COLUMN_COUNT = 5;
+
+    private static final String INSERT_PREFIX = "INSERT INTO inventory_reservation (order_id, product_id, " +
+            "inventory_id, quantity, status, created_at, updated_at) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, NOW(), NOW())";
+
+    // MariaDB는 SET 절을 왼쪽부터 적용하므로 상태를 수량보다 먼저 계산
+    private static final String DECREASE_LOT_SQL = """
+            UPDATE inventory
+            SET status = CASE WHEN quantity = ? THEN 'CONSUMED' ELSE status END,
+                quantity = quantity - ?,
+                version = version + 1,
+                updated_at = NOW()
+            WHERE id = ?
+              AND quantity >= ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Override
+    public void bulkInsertReservations(List<ReservedLot> reservations) {
+        for (int from = 0; from < reservations.size(); from += CHUNK_SIZE) {
+            List<ReservedLot> chunk = reservations.subList(from, Math.min(from + CHUNK_SIZE, reservations.size()));
+            String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(chunk.size(), ROW_PLACEHOLDER));
+
+            jdbcTemplate.update(connection -> {
+                PreparedStatement ps = connection.prepareStatement(sql);
+                int index = 1;
+                for (ReservedLot reservation : chunk) {
+                    ps.setObject(index, reservation.orderId());
+                    ps.setObject(index + 1, reservation.productId());
+                    ps.setObject(index + 2, reservation.inventoryId());
+                    ps.setInt(index + 3, reservation.quantity());
+                    ps.setString(index + 4, ReservationStatus.RESERVED.name());
+                    index += COLUMN_COUNT;
+                }
+                return ps;
+            });
+        }
+    }
+
+    @Override
+    public int updateStatusByOrderIds(Collection<Long> orderIds, ReservationStatus from, ReservationStatus to) {
+        if (orderIds.isEmpty()) return 0;
+
+        return namedParameterJdbcTemplate.update("""
+                        UPDATE inventory_reservation
+                        SET status = :to, updated_at = NOW()
+                        WHERE order_id IN (:orderIds)
+                          AND status = :from
+                        """,
+                new MapSqlParameterSource()
+                        .addValue("orderIds", orderIds)
+                        .addValue("from", from.name())
+                        .addValue("to", to.name()));
+    }
+
+    @Override
+    public List<Long> findLotIdsByStatus(Collection<Long> lotIds, String lotStatus) {
+        if (lotIds.isEmpty()) return List.of();
+
+        return namedParameterJdbcTemplate.queryForList(
+                "SELECT id FROM inventory WHERE id IN (:lotIds) AND status = :status",
+                new MapSqlParameterSource()
+                        .addValue("lotIds", lotIds)
+                        .addValue("status", lotStatus),
+                Long.class);
+    }
+
+    @Override
+    public void bulkDecreaseLotQuantities(Map<Long, Integer> quantitiesByLotId) {
+        if (quantitiesByLotId.isEmpty()) return;
+
+        List<Object[]> args = new ArrayList<>(quantitiesByLotId.size());
+        for (Map.Entry<Long, Integer> entry : quantitiesByLotId.entrySet()) {
+            int quantity = entry.getValue();
+            args.add(new Object[]{quantity, quantity, entry.getKey(), quantity});
+        }
+        jdbcTemplate.batchUpdate(DECREASE_LOT_SQL, args);
+    }
+}
@@ -0,0 +1,25 @@
+package com.spicy.backend.inventory.storage;
+
+import com.spicy.backend.inventory.domain.InventoryReservation;
+import com.spicy.backend.inventory.domain.ReservationStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface InventoryReservationRepository extends JpaRepository<InventoryReservation, Long>, InventoryReservationBulkRepository {
+
+    // 서버 시작 시 메모리 예약 현황 복원용
+    List<InventoryReservation> findAllByStatus(ReservationStatus status);
+
+    // 배송 완료됐지만 로트 차감이 아직 반영되지 않은 예약 (서버 시작 시 복원용)
+    List<InventoryReservation> findAllByStatusAndLotAppliedAtIsNull(ReservationStatus status);
+
+    // 로트 차감을 반영할 배송 완료 예약을 ID 순으로 잠그며 조회
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<InventoryReservation> findByStatusAndLotAppliedAtIsNullOrderByIdAsc(ReservationStatus status, Pageable pageable);
+}
@@ -0,0 +1,29 @@
+package com.spicy.backend.inventory.storage;
+
+import com.spicy.backend.inventory.domain.InventoryStock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface InventoryStockRepository extends JpaRepository<InventoryStock, Long> {
+
+    List<InventoryStock> findAllByStoreIdOrderByProductIdAsc(Long storeId);
+
+    // 동시 입출고에서도 값이 유실되지 않도록 DB에서 증감
+    @Modifying
+    @Query("""
+                update InventoryStock s
+                set s.totalQuantity = s.totalQuantity + :delta
+                where s.storeId = :storeId
+                  and s.productId = :productId
+            """)
+    int addQuantity(
+            @Param("storeId") Long storeId,
+            @Param("productId") Long productId,
+            @Param("delta") int delta);
+}
@@ -4,9 +4,14 @@ import com.spicy.backend.inventory.domain.MinimumProduct;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface MinimumProductRepository extends JpaRepository<MinimumProduct, Long> {
     Optional<MinimumProduct> findByProductIdAndStoreId(Long id, Long storeId);
+
+    List<MinimumProduct> findAllByStoreId(Long storeId);
+
+    List<MinimumProduct> findAllByProductIdInAndStoreId(List<Long> productIds, Long storeId);
 }
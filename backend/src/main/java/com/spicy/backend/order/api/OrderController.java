@@ -1,15 +1,20 @@
 package com.spicy.backend.order.api;
 
 import com.spicy.backend.global.common.ApiResponse;
+import com.spicy.backend.order.application.OrderIdempotencyStore;
 import com.spicy.backend.order.application.OrderService;
+import com.spicy.backend.order.dto.request.OrderBulkCancelRequest;
 import com.spicy.backend.order.dto.request.OrderCreateRequest;
+import com.spicy.backend.order.dto.response.OrderBulkCancelResponse;
 import com.spicy.backend.order.dto.response.OrderCanceledResponse;
 import com.spicy.backend.order.dto.response.OrderCreateResponse;
 import com.spicy.backend.order.dto.response.OrderItemResponse;
-import com.spicy.backend.order.dto.response.OrderResponse;
+import com.spicy.backend.order.dto.response.OrderPageResponse;
 import com.spicy.backend.order.enums.Status;
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -18,9 +23,12 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -29,6 +37,7 @@ import java.util.List;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderIdempotencyStore orderIdempotencyStore;
 
     // 주문 생성
     @Operation(summary = "주문 생성", description = "가맹점주로부터 데이터를 전달받아 주문 생성")
@@ -37,23 +46,36 @@ public class OrderController {
     public ResponseEntity<ApiResponse<OrderCreateResponse>> createOrder(
             Authentication authentication,
             @PathVariable("store-id") Long storeId, // 가맹점 식별 번호
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey, // 재시도 중복 주문 방지 키
             @RequestBody OrderCreateRequest request) {
         Long userId = (Long) authentication.getPrincipal();
 
-        return ResponseEntity.ok(ApiResponse.success(orderService.createOrder(storeId, userId, request)));
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return ResponseEntity.ok(ApiResponse.success(orderService.createOrder(storeId, userId, request)));
+        }
+
+        // 같은 키로 재시도하면 처음 생성된 주문 결과를 그대로 반환
+        OrderCreateResponse response = orderIdempotencyStore.execute(
+                userId, storeId, idempotencyKey, request,
+                () -> orderService.createOrder(storeId, userId, request));
+        return ResponseEntity.ok(ApiResponse.success(response));
     }
 
     // 주문 조회
-    @Operation(summary = "주문 조회", description = "가맹점주의 요청에 따라 전체, 완료, 취소된 주문 조회")
+    @Operation(summary = "주문 조회", description = "가맹점주의 요청에 따라 전체, 완료, 취소된 주문을 최신순으로 페이지 조회 (다음 페이지는 응답의 커서를 전달)")
     @PreAuthorize("isAuthenticated()")
     @GetMapping("/{status}/{store-id}")
-    public ResponseEntity<ApiResponse<List<OrderResponse>>> getOrders(
+    public ResponseEntity<ApiResponse<OrderPageResponse>> getOrders(
             @PathVariable("store-id") Long storeId, // 가맹점 식별 번호
             @PathVariable Status status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "20") int size, // 최대 100건
             Authentication authentication) {
         Long userId = (Long) authentication.getPrincipal();
 
-        return ResponseEntity.ok(ApiResponse.success(orderService.getAllOrders(userId, storeId, status)));
+        return ResponseEntity.ok(ApiResponse.success(
+                orderService.getAllOrders(userId, storeId, status, cursorCreatedAt, cursorId, size)));
     }
 
     // 주문 상세 조회
@@ -81,4 +103,23 @@ public class OrderController {
 
         return ResponseEntity.ok(ApiResponse.success(orderService.cancelOrder(userId, storeId, orderId)));
     }
+
+    // 주문 일괄 취소
+    @Operation(summary = "주문 일괄 취소", description = "본사가 여러 주문을 한 번에 취소 (이미 취소된 주문은 건너뜀)")
+    @PreAuthorize("hasRole('HQ')")
+    @PatchMapping("/cancel")
+    public ResponseEntity<ApiResponse<OrderBulkCancelResponse>> cancelOrdersInBulk(
+            @Valid @RequestBody OrderBulkCancelRequest request) {
+        return ResponseEntity.ok(ApiResponse.success(orderService.cancelOrders(request.orderIds())));
+    }
+
+    // 주문 도착 처리
+    @Operation(summary = "주문 도착 처리", description = "본사가 배송 완료된 주문을 도착 처리하고 예약된 재고를 출고로 전환")
+    @PreAuthorize("hasRole('HQ')")
+    @PatchMapping("/{order-id}/deliver")
+    public ResponseEntity<ApiResponse<Void>> deliverOrder(
+            @PathVariable("order-id") Long orderId) {
+        orderService.deliverOrder(orderId);
+        return ResponseEntity.ok(ApiResponse.success(null));
+    }
 }
@@ -0,0 +1,43 @@
+package com.spicy.backend.order.application;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+// 주문 시 삭제 처리된 장바구니 상품을 주기적으로 물리 삭제
+@Slf4j
+@Component
+public class CartItemPurgeScheduler {
+
+    private final CartItemService cartItemService;
+    private final int retentionDays;
+    private final int batchSize;
+
+    public CartItemPurgeScheduler(
+            CartItemService cartItemService,
+            @Value("${cart.purge.retention-days:7}") int retentionDays,
+            @Value("${cart.purge.batch-size:1000}") int batchSize
+    ) {
+        this.cartItemService = cartItemService;
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${cart.purge.cron:0 30 3 * * *}")
+    public void purge() {
+        LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+
+        // 배치마다 별도 트랜잭션으로 짧게 삭제 (잠금을 오래 잡지 않도록)
+        int total = 0;
+        int purged;
+        do {
+            purged = cartItemService.purgeDeletedCartItems(before, batchSize);
+            total += purged;
+        } while (purged == batchSize);
+
+        log.info("삭제된 장바구니 상품 정리 완료: 기준 {}, {}건", before, total);
+    }
+}
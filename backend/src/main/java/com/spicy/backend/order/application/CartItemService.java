@@ -2,76 +2,78 @@ package com.spicy.backend.order.application;
 
 import com.spicy.backend.global.error.errorcode.GlobalErrorCode;
 import com.spicy.backend.global.error.exception.BusinessException;
-import com.spicy.backend.order.dao.ProductRepository;
+import com.spicy.backend.order.application.cart.CartStore;
 import com.spicy.backend.order.dao.cartitems.CartItemRepository;
-import com.spicy.backend.order.domain.CartItem;
 import com.spicy.backend.order.dto.request.CartItemCreateRequest;
 import com.spicy.backend.order.dto.response.CartItemResponse;
+import com.spicy.backend.order.dto.response.CartLine;
+import com.spicy.backend.order.dto.response.ProductInfo;
 import com.spicy.backend.order.error.CartItemErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class CartItemService {
 
+    private final CartStore cartStore;
     private final CartItemRepository cartItemRepository;
-    private final ProductRepository productRepository;
+    private final ProductCatalog productCatalog;
 
     @Transactional(rollbackFor = BusinessException.class)
     public List<Long> addCartItem(Long userId, Long storeId, List<CartItemCreateRequest> requests) {
-        // CartItem 생성 및 저장
-        List<CartItem> cartItems = new ArrayList<>();
+        // 같은 상품은 수량을 합쳐 상품당 한 행으로 저장
+        Map<Long, Long> quantities = mergeQuantities(requests);
 
-        createCartItems(cartItems, requests, userId, storeId);
-
-        List<CartItem> savedCartItems = cartItemRepository.saveAll(cartItems);
-
-        return savedCartItems.stream()
-                .map(CartItem::getId)
-                .toList();
+        // 이미 담긴 상품은 수량 증가, 없으면 추가
+        return cartStore.add(userId, storeId, quantities);
     }
 
-    @Transactional(readOnly = true)
     public List<CartItemResponse> getCartItems(Long userId, Long storeId) {
-        // CartItem 조회
-        List<CartItem> cartItems = cartItemRepository.findAllByUserIdAndStoreIdAndDeletedAtIsNull(userId, storeId);
+        // 장바구니 조회 후 상품 정보는 카탈로그에서 채움
+        List<CartLine> lines = cartStore.findAll(userId, storeId);
+        Map<Long, ProductInfo> products = productCatalog.getAll(
+                lines.stream().map(CartLine::productId).toList());
 
-        return CartItemResponse.from(cartItems);
+        // 판매 중지 등으로 카탈로그에 없는 상품은 제외
+        return lines.stream()
+                .filter(line -> products.containsKey(line.productId()))
+                .map(line -> CartItemResponse.of(line, products.get(line.productId())))
+                .toList();
     }
 
     @Transactional
     public void deleteCartItem(Long userId, Long cartItemId, Long storeId) {
-        // 사용자 검증
-        CartItem item = cartItemRepository.findByUserIdAndIdAndStoreIdAndDeletedAtIsNull(userId, cartItemId, storeId)
-                .orElseThrow(() -> new BusinessException(CartItemErrorCode.CART_ITEM_NOT_FOUND));
+        // 사용자 검증 후 장바구니 상품 삭제
+        if (!cartStore.remove(userId, storeId, cartItemId)) {
+            throw new BusinessException(CartItemErrorCode.CART_ITEM_NOT_FOUND);
+        }
+    }
 
-        // 장바구니 상품 삭제
-        cartItemRepository.delete(item);
+    @Transactional
+    public int purgeDeletedCartItems(LocalDateTime before, int batchSize) {
+        return cartItemRepository.purgeDeletedBefore(before, batchSize);
     }
 
-    private void createCartItems(
-            List<CartItem> cartItemList,
-            List<CartItemCreateRequest> requests,
-            Long userId,
-            Long storeId
-    ) {
+    private Map<Long, Long> mergeQuantities(List<CartItemCreateRequest> requests) {
+        // 요청한 상품을 카탈로그에서 한 번에 확인 (캐시에 없는 상품만 한 번의 IN 쿼리)
+        Map<Long, ProductInfo> products = productCatalog.getAll(
+                requests.stream().map(CartItemCreateRequest::productId).toList());
+
+        Map<Long, Long> quantities = new LinkedHashMap<>();
         for (CartItemCreateRequest request : requests) {
-            CartItem cartItem = CartItem.builder()
-                    .storeId(storeId)
-                    .userId(userId)
-                    .product(
-                            productRepository.findById(request.productId())
-                                    .orElseThrow(() -> new BusinessException(GlobalErrorCode.RESOURCE_NOT_FOUND))
-                            // 나중에 에러 코드 변경해야함 PRODUCT_NOT_FOUND
-                    )
-                    .quantity(request.quantity())
-                    .build();
-            cartItemList.add(cartItem);
+            if (!products.containsKey(request.productId())) {
+                // 나중에 에러 코드 변경해야함 PRODUCT_NOT_FOUND
+                throw new BusinessException(GlobalErrorCode.RESOURCE_NOT_FOUND);
+            }
+            quantities.merge(request.productId(), request.quantity(), Long::sum);
         }
+        return quantities;
     }
 }
@@ -0,0 +1,109 @@
+package com.spicy.backend.order.application;
+
+import com.spicy.backend.global.error.exception.BusinessException;
+import com.spicy.backend.order.error.OrderErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+// Idempotency-Key 기준으로 같은 요청은 한 번만 실행하고 결과를 재사용 (서버 메모리 보관)
+@Component
+public class OrderIdempotencyStore {
+
+    private final long ttlNanos;
+    private final long waitTimeoutMillis;
+
+    // 사용자:가맹점:키 -> 실행 중이거나 완료된 결과
+    private final Map<String, Entry<?>> entries = new ConcurrentHashMap<>();
+
+    public OrderIdempotencyStore(
+            @Value("${order.idempotency.ttl-seconds:86400}") long ttlSeconds,
+            @Value("${order.idempotency.wait-timeout-ms:10000}") long waitTimeoutMillis
+    ) {
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.waitTimeoutMillis = waitTimeoutMillis;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(Long userId, Long storeId, String idempotencyKey, Object request, Supplier<T> action) {
+        String key = userId + ":" + storeId + ":" + idempotencyKey;
+        int fingerprint = request.hashCode();
+
+        while (true) {
+            Entry<T> mine = new Entry<>(new CompletableFuture<>(), fingerprint, System.nanoTime());
+            Entry<?> existing = entries.putIfAbsent(key, mine);
+
+            if (existing == null) {
+                return run(key, mine, action);
+            }
+
+            // 만료된 결과는 교체 후 다시 시도
+            if (existing.result().isDone() && existing.isExpired(System.nanoTime(), ttlNanos)) {
+                entries.remove(key, existing);
+                continue;
+            }
+
+            // 같은 키로 다른 내용의 요청
+            if (existing.fingerprint() != fingerprint) {
+                throw new BusinessException(OrderErrorCode.IDEMPOTENCY_KEY_REUSED);
+            }
+
+            // 처리 중인 같은 요청은 트랜잭션을 다시 실행하지 않고 결과를 기다림
+            return await((Entry<T>) existing);
+        }
+    }
+
+    // TTL이 지난 완료 결과 정리
+    @Scheduled(fixedDelayString = "${order.idempotency.cleanup-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.nanoTime();
+        entries.entrySet().removeIf(e -> e.getValue().result().isDone() && e.getValue().isExpired(now, ttlNanos));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private <T> T run(String key, Entry<T> entry, Supplier<T> action) {
+        try {
+            T result = action.get();
+            entry.result().complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            // 실패는 보관하지 않음 (재시도 시 다시 실행), 기다리던 요청에는 같은 예외 전달
+            entries.remove(key, entry);
+            entry.result().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private <T> T await(Entry<T> entry) {
+        try {
+            return entry.result().get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new BusinessException(OrderErrorCode.ORDER_IN_PROGRESS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(OrderErrorCode.ORDER_IN_PROGRESS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private record Entry<T>(CompletableFuture<T> result, int fingerprint, long createdAt) {
+        boolean isExpired(long now, long ttlNanos) {
+            return now - createdAt >= ttlNanos;
+        }
+    }
+}
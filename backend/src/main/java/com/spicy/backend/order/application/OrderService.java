@@ -1,97 +1,190 @@
 package com.spicy.backend.order.application;
 
+import com.spicy.backend.global.error.errorcode.GlobalErrorCode;
 import com.spicy.backend.global.error.exception.BusinessException;
-import com.spicy.backend.order.dao.cartitems.CartItemRepository;
+import com.spicy.backend.inventory.application.InventoryReservationEngine;
+import com.spicy.backend.order.application.cart.CartStore;
 import com.spicy.backend.order.dao.order.OrderItemRepository;
 import com.spicy.backend.order.dao.order.OrderRepository;
-import com.spicy.backend.order.domain.CartItem;
 import com.spicy.backend.order.domain.Order;
 import com.spicy.backend.order.domain.OrderItem;
 import com.spicy.backend.order.dto.request.OrderCreateRequest;
+import com.spicy.backend.order.dto.response.CartLine;
+import com.spicy.backend.order.dto.response.OrderBulkCancelResponse;
 import com.spicy.backend.order.dto.response.OrderCanceledResponse;
 import com.spicy.backend.order.dto.response.OrderCreateResponse;
 import com.spicy.backend.order.dto.response.OrderItemResponse;
+import com.spicy.backend.order.dto.response.OrderPageResponse;
 import com.spicy.backend.order.dto.response.OrderResponse;
+import com.spicy.backend.order.dto.response.ProductInfo;
 import com.spicy.backend.order.enums.Status;
 import com.spicy.backend.order.error.CartItemErrorCode;
 import com.spicy.backend.order.error.OrderErrorCode;
+import com.spicy.backend.order.util.OrderNumberGenerator;
+import com.spicy.backend.settlement.application.SalesRollupService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class OrderService {
+    // 주문 내역 한 페이지 최대 건수
+    private static final int MAX_PAGE_SIZE = 100;
+    // 일괄 취소 한 번에 받을 최대 주문 수
+    private static final int MAX_BULK_CANCEL_SIZE = 1000;
 
     private final OrderRepository orderRepository;
     private final OrderItemRepository orderItemRepository;
-    private final CartItemRepository cartItemRepository;
+    private final CartStore cartStore;
+    private final ProductCatalog productCatalog;
+    private final InventoryReservationEngine inventoryReservationEngine;
+    private final SalesRollupService salesRollupService;
+    private final OrderNumberGenerator orderNumberGenerator;
 
     @Transactional
     public OrderCreateResponse createOrder(Long storeId, Long userId, OrderCreateRequest request) {
         // 사용자 검증 및 장바구니 가져오기
-        List<CartItem> cartList = cartItemRepository.findAllByUserIdAndStoreIdAndDeletedAtIsNull(userId, storeId);
+        List<CartLine> cartList = cartStore.findAll(userId, storeId);
         if (cartList.isEmpty()) throw new BusinessException(CartItemErrorCode.CART_ITEM_NOT_FOUND);
 
         // Order 생성 및 저장
-        Order order = orderRepository.save(Order.create(userId, request, storeId));
+        Order order = orderRepository.save(Order.create(userId, request, storeId, orderNumberGenerator.next()));
 
         // OrderItem 생성 및 저장
         createAndSaveOrderItems(cartList, order);
 
-        // 장바구니에서 삭제
-        cartItemRepository.deleteAll(cartList);
+        // 정산용 일자별 상품 합계 증가
+        salesRollupService.recordOrders(List.of(order.getId()));
+
+        // 주문 수량만큼 유통기한 빠른 로트에 재고 예약 (재고 부족 시 주문 전체 롤백)
+        inventoryReservationEngine.reserve(order.getId(), toQuantities(cartList));
+
+        // 주문한 상품을 장바구니에서 제거 (주문이 커밋된 경우에만 반영)
+        cartStore.checkout(userId, storeId, cartList);
 
         return OrderCreateResponse.from(order.getId());
     }
 
     @Transactional(readOnly = true)
-    public List<OrderResponse> getAllOrders(Long userId, Long storeId, Status status) {
-        // status에 따라 주문 리스트 조회
-        List<Order> orders = orderRepository.findAllByUserIdAndStoreIdAndStatusAndDeletedAtIsNullOrderByCreatedAtDesc(userId, storeId, status);
+    public OrderPageResponse getAllOrders(
+            Long userId,
+            Long storeId,
+            Status status,
+            LocalDateTime cursorCreatedAt,
+            Long cursorId,
+            int size
+    ) {
+        // 커서는 생성 일시와 ID를 함께 넘겨야 함
+        if ((cursorCreatedAt == null) != (cursorId == null)) {
+            throw new BusinessException(GlobalErrorCode.INVALID_INPUT_VALUE);
+        }
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        // status에 따라 커서 이후의 주문을 한 페이지(+1건) 조회
+        List<OrderResponse> orders = orderRepository.findPageByCursor(
+                userId, storeId, status, cursorCreatedAt, cursorId, pageSize + 1);
 
-        // 리스트 반환
-        return OrderResponse.from(orders);
+        return OrderPageResponse.of(orders, pageSize);
     }
 
     @Transactional(readOnly = true)
     public List<OrderItemResponse> getOrderDetails(Long userId, Long storeId, Long orderId) {
         // userId, storeId, orderId로 OrderItem 리스트 조회
         // 리스트 길이가 0일 때 예외 발생
-        List<OrderItem> itemList = orderItemRepository.findAllByUserIdAndStoreIdAndOrderIdAndDeletedAtIsNullOrderByCreatedAtDesc(userId, storeId, orderId);
+        List<OrderItemResponse> itemList = orderItemRepository.findOrderItemResponses(userId, storeId, orderId);
         if (itemList.isEmpty()) throw new BusinessException(OrderErrorCode.ORDER_ITEM_NOT_FOUND);
 
-        // OrderItem 리스트를 OrderItemResponse 리스트로 변환 후 반환
-        return OrderItemResponse.from(itemList);
+        return itemList;
     }
 
     @Transactional(rollbackFor = BusinessException.class)
     public OrderCanceledResponse cancelOrder(Long userId, Long storeId, Long orderId) {
-        // 사용자 검증
-        Order order = orderRepository.findByUserIdAndStoreIdAndIdAndDeletedAtIsNull(userId, storeId, orderId)
+        // 진행 중인 주문이면 잠근 뒤 UPDATE 한 번으로 취소 (사용자 검증 포함, 이미 취소/도착 처리된 주문은 그대로)
+        List<Long> targetIds = orderRepository.findCancellableOrderIdsForUpdate(userId, storeId, List.of(orderId));
+        if (!targetIds.isEmpty()) {
+            cancelLockedOrders(targetIds);
+        }
+
+        // 응답은 엔티티 대신 프로젝션으로 조회
+        OrderResponse order = orderRepository.findOrderResponse(userId, storeId, orderId)
                 .orElseThrow(() -> new BusinessException(OrderErrorCode.ORDER_NOT_FOUND));
-        List<OrderItem> items = orderItemRepository.findAllByUserIdAndStoreIdAndOrderIdAndDeletedAtIsNullOrderByCreatedAtDesc(userId, storeId, orderId);
+        List<OrderItemResponse> items = orderItemRepository.findOrderItemResponses(userId, storeId, orderId);
+
+        return OrderCanceledResponse.of(order, items);
+    }
+
+    // 본사 일괄 취소
+    @Transactional(rollbackFor = BusinessException.class)
+    public OrderBulkCancelResponse cancelOrders(List<Long> orderIds) {
+        if (orderIds == null || orderIds.isEmpty() || orderIds.size() > MAX_BULK_CANCEL_SIZE) {
+            throw new BusinessException(GlobalErrorCode.INVALID_INPUT_VALUE);
+        }
+        List<Long> requestedIds = orderIds.stream().distinct().toList();
 
-        // 주문과 주문 상품의 상태를 취소로 변경
-        order.updateStatus(Status.CANCELLED);
-        for (OrderItem orderItem : items) {
-            orderItem.updateStatus(Status.CANCELLED);
+        // 진행 중인 주문만 잠근 뒤 주문/주문 상품을 각각 UPDATE 한 번으로 취소
+        List<Long> targetIds = orderRepository.findCancellableOrderIdsForUpdate(null, null, requestedIds);
+        if (targetIds.isEmpty()) {
+            return new OrderBulkCancelResponse(requestedIds.size(), 0, 0);
         }
 
-        return OrderCanceledResponse.from(order, items);
+        long canceledItems = cancelLockedOrders(targetIds);
+        return new OrderBulkCancelResponse(requestedIds.size(), targetIds.size(), canceledItems);
+    }
+
+    // 잠근 주문만 취소하고 합계/예약 후속 처리도 그 주문에만 적용 (동시 취소로 두 번 반영되지 않음)
+    private long cancelLockedOrders(List<Long> orderIds) {
+        orderRepository.cancelOrders(null, null, orderIds);
+        // 정산용 일자별 상품 합계 감소 (주문 상품 취소 전에 반영)
+        salesRollupService.revertOrders(orderIds);
+        // 주문 상품도 UPDATE 한 번으로 취소
+        long canceledItems = orderItemRepository.cancelAllByOrderIds(orderIds);
+        // 예약했던 재고 반환
+        inventoryReservationEngine.release(orderIds);
+        return canceledItems;
+    }
+
+    // 본사 도착 처리: 예약된 재고를 실제 출고로 전환
+    @Transactional(rollbackFor = BusinessException.class)
+    public void deliverOrder(Long orderId) {
+        if (orderRepository.deliverOrders(List.of(orderId)) == 0) {
+            throw new BusinessException(OrderErrorCode.ORDER_NOT_DELIVERABLE);
+        }
+        orderItemRepository.deliverAllByOrderIds(List.of(orderId));
+        inventoryReservationEngine.consume(List.of(orderId));
+    }
+
+    // 장바구니 상품 ID -> 주문 수량 (같은 상품은 합산)
+    private Map<Long, Integer> toQuantities(List<CartLine> cartList) {
+        Map<Long, Integer> quantities = new HashMap<>();
+        for (CartLine line : cartList) {
+            quantities.merge(line.productId(), Math.toIntExact(line.quantity()), Integer::sum);
+        }
+        return quantities;
     }
 
     private void createAndSaveOrderItems(
-            List<CartItem> cartList,
+            List<CartLine> cartList,
             Order order
     ) {
-        // CartItem -> OrderItem 변환
+        // 상품 이름/가격은 카탈로그에서 한 번에 조회 (상품 프록시를 다시 읽지 않음)
+        Map<Long, ProductInfo> products = productCatalog.getAll(
+                cartList.stream().map(CartLine::productId).toList());
+
+        // 장바구니 상품 -> OrderItem 변환
         List<OrderItem> itemList = cartList.stream()
-                .map(item -> {
-                    OrderItem orderItem = OrderItem.create(item);
+                .map(line -> {
+                    ProductInfo product = products.get(line.productId());
+                    if (product == null) {
+                        throw new BusinessException(GlobalErrorCode.RESOURCE_NOT_FOUND);
+                    }
+                    OrderItem orderItem = OrderItem.create(product, line.quantity());
                     orderItem.updateOrderId(order.getId());
                     return orderItem;
                 })
@@ -105,7 +198,7 @@ public class OrderService {
         // 총 주문 금액 갱신
         order.updateTotalPrice(totalPrice);
 
-        // OrderItem 저장
-        orderItemRepository.saveAll(itemList);
+        // OrderItem 저장 (IDENTITY 키라 saveAll은 행마다 INSERT -> 다중 행 INSERT 한 번으로 저장)
+        orderItemRepository.bulkInsertOrderItems(itemList);
     }
 }
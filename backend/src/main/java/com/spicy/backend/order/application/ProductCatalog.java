@@ -0,0 +1,200 @@
+package com.spicy.backend.order.application;
+
+import com.spicy.backend.order.dao.ProductRepository;
+import com.spicy.backend.order.domain.Product;
+import com.spicy.backend.order.dto.response.ProductInfo;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// 장바구니/주문/재고가 함께 쓰는 상품 마스터 캐시 (없으면 DB에서 읽어 채움)
+// 애플리케이션에는 상품을 수정하는 기능이 없어 (DB에서 직접 변경) 변경 내용은 TTL이 지나야 반영됨
+// 즉시 반영이 필요하면 product.catalog.ttl-seconds를 줄이거나, 상품 수정 기능을 추가할 때 그 저장 경로에서 evict 호출
+@Component
+public class ProductCatalog {
+
+    private final ProductRepository productRepository;
+    private final int maxSize;
+    private final long ttlNanos;
+
+    // 접근 순서 기준 LRU (최대 크기를 넘으면 가장 오래 쓰지 않은 상품부터 제거)
+    private final LinkedHashMap<Long, CachedProduct> products;
+    private final Map<String, Long> productIdsByName = new HashMap<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter sizeEvictionCounter;
+    private final Counter expiredEvictionCounter;
+
+    public ProductCatalog(
+            ProductRepository productRepository,
+            MeterRegistry meterRegistry,
+            @Value("${product.catalog.max-size:10000}") int maxSize,
+            @Value("${product.catalog.ttl-seconds:600}") long ttlSeconds
+    ) {
+        this.productRepository = productRepository;
+        this.maxSize = maxSize;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+
+        this.products = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedProduct> eldest) {
+                if (size() <= ProductCatalog.this.maxSize) {
+                    return false;
+                }
+                removeName(eldest.getValue().product());
+                sizeEvictionCounter.increment();
+                return true;
+            }
+        };
+
+        this.hitCounter = Counter.builder("product.catalog.requests")
+                .tag("result", "hit")
+                .description("상품 카탈로그 캐시 조회 건수")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("product.catalog.requests")
+                .tag("result", "miss")
+                .description("상품 카탈로그 캐시 조회 건수")
+                .register(meterRegistry);
+        this.sizeEvictionCounter = Counter.builder("product.catalog.evictions")
+                .tag("cause", "size")
+                .description("상품 카탈로그 캐시에서 제거된 건수")
+                .register(meterRegistry);
+        this.expiredEvictionCounter = Counter.builder("product.catalog.evictions")
+                .tag("cause", "expired")
+                .description("상품 카탈로그 캐시에서 제거된 건수")
+                .register(meterRegistry);
+        Gauge.builder("product.catalog.size", this, ProductCatalog::size)
+                .description("상품 카탈로그 캐시에 보관 중인 상품 수")
+                .register(meterRegistry);
+    }
+
+    public Optional<ProductInfo> find(Long productId) {
+        ProductInfo cached = lookup(productId);
+        if (cached != null) {
+            hitCounter.increment();
+            return Optional.of(cached);
+        }
+
+        missCounter.increment();
+        return productRepository.findById(productId).map(this::cache);
+    }
+
+    public Optional<ProductInfo> findByName(String productName) {
+        Long productId;
+        synchronized (this) {
+            productId = productIdsByName.get(productName);
+        }
+        ProductInfo cached = productId != null ? lookup(productId) : null;
+        if (cached != null) {
+            hitCounter.increment();
+            return Optional.of(cached);
+        }
+
+        missCounter.increment();
+        return productRepository.findFirstByProductNameOrderByProductIdAsc(productName).map(this::cache);
+    }
+
+    // 캐시에 없는 상품만 한 번의 IN 쿼리로 조회
+    public Map<Long, ProductInfo> getAll(Collection<Long> productIds) {
+        Map<Long, ProductInfo> result = new HashMap<>();
+        List<Long> missingIds = new ArrayList<>();
+
+        for (Long productId : new LinkedHashSet<>(productIds)) {
+            ProductInfo cached = lookup(productId);
+            if (cached != null) {
+                result.put(productId, cached);
+            } else {
+                missingIds.add(productId);
+            }
+        }
+        hitCounter.increment(result.size());
+
+        if (!missingIds.isEmpty()) {
+            missCounter.increment(missingIds.size());
+            for (Product product : productRepository.findAllById(missingIds)) {
+                result.put(product.getProductId(), cache(product));
+            }
+        }
+        return result;
+    }
+
+    // 전체 상품을 다시 읽어 캐시를 채움 (기동 시 워밍업)
+    public List<ProductInfo> loadAll() {
+        List<Product> all = productRepository.findAll();
+
+        List<ProductInfo> loaded = new ArrayList<>();
+        synchronized (this) {
+            products.clear();
+            productIdsByName.clear();
+            for (Product product : all) {
+                loaded.add(cache(product));
+            }
+        }
+        return loaded;
+    }
+
+    // 상품 정보 변경 시 호출 (현재 호출하는 곳 없음, 상품 수정 기능 추가 시 저장 경로에 연결)
+    public synchronized void evict(Long productId) {
+        CachedProduct removed = products.remove(productId);
+        if (removed != null) {
+            removeName(removed.product());
+        }
+    }
+
+    public synchronized void evictAll() {
+        products.clear();
+        productIdsByName.clear();
+    }
+
+    public synchronized int size() {
+        return products.size();
+    }
+
+    private synchronized ProductInfo lookup(Long productId) {
+        CachedProduct cached = products.get(productId);
+        if (cached == null) {
+            return null;
+        }
+
+        // TTL이 지난 상품은 제거 후 다시 조회
+        if (System.nanoTime() - cached.loadedAt() >= ttlNanos) {
+            products.remove(productId);
+            removeName(cached.product());
+            expiredEvictionCounter.increment();
+            return null;
+        }
+        return cached.product();
+    }
+
+    private synchronized ProductInfo cache(Product product) {
+        ProductInfo info = ProductInfo.from(product);
+
+        CachedProduct previous = products.put(info.productId(), new CachedProduct(info, System.nanoTime()));
+        if (previous != null) {
+            removeName(previous.product());
+        }
+        // 같은 이름이 여러 개면 가장 먼저 등록된 상품 기준
+        productIdsByName.merge(info.productName(), info.productId(), Math::min);
+        return info;
+    }
+
+    private void removeName(ProductInfo product) {
+        productIdsByName.remove(product.productName(), product.productId());
+    }
+
+    private record CachedProduct(ProductInfo product, long loadedAt) {
+    }
+}
@@ -0,0 +1,22 @@
+package com.spicy.backend.order.application.cart;
+
+import com.spicy.backend.order.dto.response.CartLine;
+
+import java.util.List;
+import java.util.Map;
+
+// 장바구니 저장소 (cart.store=jpa: 매 요청 DB, cart.store=memory: 메모리 + 주기적 DB 반영)
+public interface CartStore {
+
+    // 사용자 + 가맹점의 장바구니 (담은 순서)
+    List<CartLine> findAll(Long userId, Long storeId);
+
+    // 상품 ID -> 수량을 추가 (이미 담긴 상품은 수량 합산), 해당 장바구니 상품 ID 반환
+    List<Long> add(Long userId, Long storeId, Map<Long, Long> quantitiesByProductId);
+
+    // 장바구니 상품 삭제 (없으면 false)
+    boolean remove(Long userId, Long storeId, Long cartItemId);
+
+    // 주문한 만큼 장바구니에서 제거 (주문 트랜잭션이 커밋된 경우에만 반영)
+    void checkout(Long userId, Long storeId, List<CartLine> orderedLines);
+}
@@ -0,0 +1,206 @@
+package com.spicy.backend.order.application.cart;
+
+import com.spicy.backend.order.dao.cartitems.CartItemRepository;
+import com.spicy.backend.order.domain.CartItem;
+import com.spicy.backend.order.dto.response.CartLine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 메모리 장바구니 저장소: 읽기/쓰기는 메모리에서 처리하고 변경된 장바구니만 주기적으로 cart_item 테이블에 반영
+// 장바구니가 서버 메모리에 있으므로 단일 인스턴스(또는 사용자 고정 라우팅)에서만 사용
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "cart.store", havingValue = "memory")
+public class InMemoryCartStore implements CartStore {
+
+    private final CartItemRepository cartItemRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // (userId, storeId) -> 장바구니 (장바구니 단위로 잠금)
+    private final Map<CartKey, Cart> carts = new ConcurrentHashMap<>();
+    // DB 반영이 필요한 장바구니
+    private final Set<CartKey> dirty = ConcurrentHashMap.newKeySet();
+    // 메모리에서 발급하는 장바구니 상품 ID (DB에도 같은 ID로 저장하므로 재시작 후에도 클라이언트가 가진 ID 유지)
+    private final AtomicLong sequence = new AtomicLong();
+
+    public InMemoryCartStore(CartItemRepository cartItemRepository, PlatformTransactionManager transactionManager) {
+        this.cartItemRepository = cartItemRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // 서버 시작 시 cart_item 테이블에서 장바구니 복원
+    @PostConstruct
+    public void rebuild() {
+        List<CartItem> items = cartItemRepository.findAllByDeletedAtIsNullOrderByIdAsc();
+
+        carts.clear();
+        for (CartItem item : items) {
+            Cart cart = carts.computeIfAbsent(new CartKey(item.getUserId(), item.getStoreId()), k -> new Cart());
+            Long productId = item.getProduct().getProductId();
+            cart.lines.put(productId, new CartLine(item.getId(), productId, item.getQuantity()));
+        }
+        // 삭제 처리된 행의 ID와도 겹치지 않도록 전체 행의 최대 ID부터 발급
+        sequence.set(cartItemRepository.findMaxId());
+        log.info("메모리 장바구니 복원 완료: 장바구니 {}개, 상품 {}건", carts.size(), items.size());
+    }
+
+    @Override
+    public List<CartLine> findAll(Long userId, Long storeId) {
+        Cart cart = carts.get(new CartKey(userId, storeId));
+        if (cart == null) {
+            return List.of();
+        }
+        synchronized (cart) {
+            return List.copyOf(cart.lines.values());
+        }
+    }
+
+    @Override
+    public List<Long> add(Long userId, Long storeId, Map<Long, Long> quantitiesByProductId) {
+        CartKey key = new CartKey(userId, storeId);
+        Cart cart = carts.computeIfAbsent(key, k -> new Cart());
+
+        List<Long> ids = new ArrayList<>(quantitiesByProductId.size());
+        synchronized (cart) {
+            for (Map.Entry<Long, Long> entry : quantitiesByProductId.entrySet()) {
+                CartLine line = cart.lines.merge(
+                        entry.getKey(),
+                        new CartLine(null, entry.getKey(), entry.getValue()),
+                        (existing, added) -> new CartLine(existing.cartItemId(), existing.productId(),
+                                existing.quantity() + added.quantity()));
+                if (line.cartItemId() == null) {
+                    line = new CartLine(sequence.incrementAndGet(), line.productId(), line.quantity());
+                    cart.lines.put(line.productId(), line);
+                }
+                ids.add(line.cartItemId());
+            }
+        }
+        dirty.add(key);
+        return ids;
+    }
+
+    @Override
+    public boolean remove(Long userId, Long storeId, Long cartItemId) {
+        CartKey key = new CartKey(userId, storeId);
+        Cart cart = carts.get(key);
+        if (cart == null) {
+            return false;
+        }
+
+        boolean removed;
+        synchronized (cart) {
+            removed = cart.lines.values().removeIf(line -> line.cartItemId().equals(cartItemId));
+        }
+        if (removed) {
+            dirty.add(key);
+        }
+        return removed;
+    }
+
+    @Override
+    public void checkout(Long userId, Long storeId, List<CartLine> orderedLines) {
+        CartKey key = new CartKey(userId, storeId);
+        Runnable removeOrdered = () -> {
+            Cart cart = carts.get(key);
+            if (cart == null) {
+                return;
+            }
+            synchronized (cart) {
+                for (CartLine ordered : orderedLines) {
+                    CartLine line = cart.lines.get(ordered.productId());
+                    if (line == null || !line.cartItemId().equals(ordered.cartItemId())) {
+                        continue;
+                    }
+                    // 주문 후 같은 상품을 더 담았으면 주문한 수량만 뺌
+                    long remaining = line.quantity() - ordered.quantity();
+                    if (remaining > 0) {
+                        cart.lines.put(line.productId(), new CartLine(line.cartItemId(), line.productId(), remaining));
+                    } else {
+                        cart.lines.remove(line.productId());
+                    }
+                }
+            }
+            dirty.add(key);
+        };
+
+        // 주문이 롤백되면 장바구니를 그대로 둠
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            removeOrdered.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                removeOrdered.run();
+            }
+        });
+    }
+
+    // 변경된 장바구니를 한 트랜잭션으로 DB에 반영하고 반영한 장바구니 수 반환
+    @Scheduled(fixedDelayString = "${cart.store.flush-interval-ms:1000}")
+    public synchronized int flush() {
+        if (dirty.isEmpty()) {
+            return 0;
+        }
+        // 반영 중에 다시 바뀐 장바구니는 다음 주기에 다시 반영
+        List<CartKey> keys = new ArrayList<>(dirty);
+        keys.forEach(dirty::remove);
+
+        Map<CartKey, List<CartLine>> snapshots = new LinkedHashMap<>();
+        for (CartKey key : keys) {
+            Cart cart = carts.get(key);
+            List<CartLine> lines = List.of();
+            if (cart != null) {
+                synchronized (cart) {
+                    lines = List.copyOf(cart.lines.values());
+                }
+            }
+            snapshots.put(key, lines);
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> snapshots.forEach((key, lines) ->
+                    cartItemRepository.replaceCart(key.userId(), key.storeId(), lines)));
+        } catch (RuntimeException e) {
+            dirty.addAll(keys);
+            log.warn("장바구니 DB 반영 실패, 다음 주기에 재시도: {}개", keys.size(), e);
+            return 0;
+        }
+        return keys.size();
+    }
+
+    // 종료 전 남은 변경 반영
+    @PreDestroy
+    public void flushAll() {
+        while (flush() > 0) {
+            // 변경된 장바구니가 없을 때까지 반복
+        }
+        if (!dirty.isEmpty()) {
+            log.error("종료 전 장바구니 반영 실패: {}개", dirty.size());
+        }
+    }
+
+    private record CartKey(Long userId, Long storeId) {
+    }
+
+    private static final class Cart {
+        // 상품 ID -> 장바구니 줄 (담은 순서 유지)
+        private final Map<Long, CartLine> lines = new LinkedHashMap<>();
+    }
+}
@@ -0,0 +1,55 @@
+package com.spicy.backend.order.application.cart;
+
+import com.spicy.backend.order.dao.cartitems.CartItemRepository;
+import com.spicy.backend.order.domain.CartItem;
+import com.spicy.backend.order.dto.response.CartLine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+// 기본 장바구니 저장소: 모든 요청을 cart_item 테이블에서 처리
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "cart.store", havingValue = "jpa", matchIfMissing = true)
+public class JpaCartStore implements CartStore {
+
+    private final CartItemRepository cartItemRepository;
+
+    @Override
+    public List<CartLine> findAll(Long userId, Long storeId) {
+        return cartItemRepository.findAllByUserIdAndStoreIdAndDeletedAtIsNull(userId, storeId).stream()
+                .map(item -> new CartLine(item.getId(), item.getProduct().getProductId(), item.getQuantity()))
+                .toList();
+    }
+
+    @Override
+    public List<Long> add(Long userId, Long storeId, Map<Long, Long> quantitiesByProductId) {
+        // 이미 담긴 상품은 수량 증가, 없으면 추가 (조회 없이 한 번의 UPSERT)
+        cartItemRepository.upsertCartItems(userId, storeId, quantitiesByProductId);
+
+        return cartItemRepository.findIdsByProductIds(userId, storeId, quantitiesByProductId.keySet());
+    }
+
+    @Override
+    public boolean remove(Long userId, Long storeId, Long cartItemId) {
+        CartItem item = cartItemRepository.findByUserIdAndIdAndStoreIdAndDeletedAtIsNull(userId, cartItemId, storeId)
+                .orElse(null);
+        if (item == null) {
+            return false;
+        }
+
+        cartItemRepository.delete(item);
+        return true;
+    }
+
+    @Override
+    public void checkout(Long userId, Long storeId, List<CartLine> orderedLines) {
+        // 한 번의 UPDATE로 삭제 처리 (물리 삭제는 CartItemPurgeScheduler가 수행, 주문 트랜잭션과 함께 커밋/롤백)
+        cartItemRepository.softDeleteAllByIds(
+                userId, storeId, orderedLines.stream().map(CartLine::cartItemId).toList(), LocalDateTime.now());
+    }
+}
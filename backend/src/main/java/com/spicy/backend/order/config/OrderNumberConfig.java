@@ -0,0 +1,18 @@
+package com.spicy.backend.order.config;
+
+import com.spicy.backend.order.util.OrderNumberGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+@Configuration
+public class OrderNumberConfig {
+
+    // 여러 대로 띄울 때는 서버마다 다른 order.number.node-id(0 ~ 255)를 지정
+    @Bean
+    public OrderNumberGenerator orderNumberGenerator(@Value("${order.number.node-id:0}") int nodeId) {
+        return new OrderNumberGenerator(nodeId, Clock.systemDefaultZone());
+    }
+}
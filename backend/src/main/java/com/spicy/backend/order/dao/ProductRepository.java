@@ -3,5 +3,8 @@ package com.spicy.backend.order.dao;
 import com.spicy.backend.order.domain.Product;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Optional;
+
 public interface ProductRepository extends JpaRepository<Product, Long> {
+    Optional<Product> findFirstByProductNameOrderByProductIdAsc(String productName);
 }
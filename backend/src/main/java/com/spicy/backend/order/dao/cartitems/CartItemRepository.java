@@ -2,14 +2,70 @@ package com.spicy.backend.order.dao.cartitems;
 
 import com.spicy.backend.order.domain.CartItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CartItemRepository extends
         JpaRepository<CartItem, Long>,
-        CartItemRepositoryCustom
+        CartItemRepositoryCustom,
+        CartItemUpsertRepository
 {
     Optional<CartItem> findByUserIdAndIdAndStoreIdAndDeletedAtIsNull(Long userId, Long cartId, Long storeId);
+
+    // 메모리 장바구니 복원용 (삭제 처리되지 않은 전체 행)
+    List<CartItem> findAllByDeletedAtIsNullOrderByIdAsc();
+
+    // 메모리 장바구니 ID 발급 시작점 (삭제 처리된 행 포함)
+    @Query("select coalesce(max(c.id), 0) from CartItem c")
+    long findMaxId();
+
+    // 추가/갱신된 장바구니 상품 ID 조회 (uk_cart_item_user_store_product 인덱스 사용)
+    @Query("""
+                select c.id
+                from CartItem c
+                where c.userId = :userId
+                  and c.storeId = :storeId
+                  and c.product.productId in :productIds
+                  and c.deletedAt is null
+                order by c.id
+            """)
+    List<Long> findIdsByProductIds(
+            @Param("userId") Long userId,
+            @Param("storeId") Long storeId,
+            @Param("productIds") Collection<Long> productIds);
+
+    // 주문 완료된 장바구니 상품을 한 번의 UPDATE로 삭제 처리
+    @Modifying(clearAutomatically = true)
+    @Query("""
+                update CartItem c
+                set c.deletedAt = :deletedAt
+                where c.userId = :userId
+                  and c.storeId = :storeId
+                  and c.id in :ids
+                  and c.deletedAt is null
+            """)
+    int softDeleteAllByIds(
+            @Param("userId") Long userId,
+            @Param("storeId") Long storeId,
+            @Param("ids") List<Long> ids,
+            @Param("deletedAt") LocalDateTime deletedAt);
+
+    // 삭제 처리된 지 오래된 장바구니 상품을 batchSize 건씩 물리 삭제
+    @Modifying
+    @Query(value = """
+                DELETE FROM cart_item
+                WHERE deleted_at < :before
+                LIMIT :batchSize
+            """, nativeQuery = true)
+    int purgeDeletedBefore(
+            @Param("before") LocalDateTime before,
+            @Param("batchSize") int batchSize);
 }
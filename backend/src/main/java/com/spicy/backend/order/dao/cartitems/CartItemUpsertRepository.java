@@ -0,0 +1,14 @@
+package com.spicy.backend.order.dao.cartitems;
+
+import com.spicy.backend.order.dto.response.CartLine;
+
+import java.util.List;
+import java.util.Map;
+
+public interface CartItemUpsertRepository {
+    // (userId, storeId, productId)가 이미 있으면 수량을 더하고, 없으면 새로 추가 (한 번의 INSERT ... ON DUPLICATE KEY UPDATE)
+    int upsertCartItems(Long userId, Long storeId, Map<Long, Long> quantitiesByProductId);
+
+    // 장바구니를 주어진 줄로 맞춤 (줄의 ID를 그대로 저장하고, 목록에 없는 기존 상품은 삭제 처리)
+    void replaceCart(Long userId, Long storeId, List<CartLine> lines);
+}
@@ -0,0 +1,93 @@
+package com.spicy.backend.order.dao.cartitems;
+
+import com.spicy.backend.order.dto.response.CartLine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class CartItemUpsertRepositoryImpl implements CartItemUpsertRepository {
+
+    private static final String INSERT_PREFIX = "INSERT INTO cart_item (store_id, user_id, product_id, quantity, " +
+            "created_at, updated_at) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, NOW(), NOW())";
+
+    // 주문으로 삭제 처리된 행이 남아 있으면 수량을 새로 시작해 되살림
+    // (MariaDB는 SET 절을 왼쪽부터 적용하므로 deleted_at 을 마지막에 초기화)
+    private static final String ON_DUPLICATE_ADD = " ON DUPLICATE KEY UPDATE " +
+            "quantity = IF(deleted_at IS NULL, quantity + VALUES(quantity), VALUES(quantity)), " +
+            "created_at = IF(deleted_at IS NULL, created_at, NOW()), " +
+            "updated_at = NOW(), " +
+            "deleted_at = NULL";
+
+    // 메모리 장바구니 반영용: 메모리에서 발급한 ID를 그대로 저장해 재시작 후에도 같은 ID 유지
+    // 삭제 처리된 행을 되살릴 때는 ID도 메모리 ID로 바꿈 (cart_item 을 참조하는 테이블 없음)
+    private static final String INSERT_WITH_ID_PREFIX = "INSERT INTO cart_item (id, store_id, user_id, product_id, " +
+            "quantity, created_at, updated_at) VALUES ";
+    private static final String ROW_WITH_ID_PLACEHOLDER = "(?, ?, ?, ?, ?, NOW(), NOW())";
+    private static final String ON_DUPLICATE_REPLACE = " ON DUPLICATE KEY UPDATE " +
+            "id = VALUES(id), " +
+            "quantity = VALUES(quantity), " +
+            "created_at = IF(deleted_at IS NULL, created_at, NOW()), " +
+            "updated_at = NOW(), " +
+            "deleted_at = NULL";
+
+    private static final String SOFT_DELETE_REST = "UPDATE cart_item SET deleted_at = NOW(), updated_at = NOW() " +
+            "WHERE user_id = ? AND store_id = ? AND deleted_at IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int upsertCartItems(Long userId, Long storeId, Map<Long, Long> quantitiesByProductId) {
+        if (quantitiesByProductId.isEmpty()) return 0;
+
+        return upsert(userId, storeId, quantitiesByProductId, ON_DUPLICATE_ADD);
+    }
+
+    @Override
+    public void replaceCart(Long userId, Long storeId, List<CartLine> lines) {
+        List<Object> args = new ArrayList<>(List.of(userId, storeId));
+        String sql = SOFT_DELETE_REST;
+
+        if (!lines.isEmpty()) {
+            String insertSql = INSERT_WITH_ID_PREFIX
+                    + String.join(", ", Collections.nCopies(lines.size(), ROW_WITH_ID_PLACEHOLDER))
+                    + ON_DUPLICATE_REPLACE;
+            List<Object> insertArgs = new ArrayList<>(lines.size() * 5);
+            for (CartLine line : lines) {
+                insertArgs.add(line.cartItemId());
+                insertArgs.add(storeId);
+                insertArgs.add(userId);
+                insertArgs.add(line.productId());
+                insertArgs.add(line.quantity());
+            }
+            jdbcTemplate.update(insertSql, insertArgs.toArray());
+
+            sql += " AND product_id NOT IN ("
+                    + String.join(", ", Collections.nCopies(lines.size(), "?")) + ")";
+            lines.forEach(line -> args.add(line.productId()));
+        }
+        jdbcTemplate.update(sql, args.toArray());
+    }
+
+    private int upsert(Long userId, Long storeId, Map<Long, Long> quantitiesByProductId, String onDuplicate) {
+        String sql = INSERT_PREFIX
+                + String.join(", ", Collections.nCopies(quantitiesByProductId.size(), ROW_PLACEHOLDER))
+                + onDuplicate;
+
+        List<Object> args = new ArrayList<>(quantitiesByProductId.size() * 4);
+        for (Map.Entry<Long, Long> entry : quantitiesByProductId.entrySet()) {
+            args.add(storeId);
+            args.add(userId);
+            args.add(entry.getKey());
+            args.add(entry.getValue());
+        }
+        return jdbcTemplate.update(sql, args.toArray());
+    }
+}
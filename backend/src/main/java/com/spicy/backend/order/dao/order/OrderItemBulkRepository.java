@@ -0,0 +1,10 @@
+package com.spicy.backend.order.dao.order;
+
+import com.spicy.backend.order.domain.OrderItem;
+
+import java.util.List;
+
+public interface OrderItemBulkRepository {
+    // 주문 상품을 다중 행 INSERT로 저장하고 생성된 ID를 입력 순서대로 반환
+    List<Long> bulkInsertOrderItems(List<OrderItem> orderItems);
+}
@@ -0,0 +1,77 @@
+package com.spicy.backend.order.dao.order;
+
+import com.spicy.backend.order.domain.OrderItem;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class OrderItemBulkRepositoryImpl implements OrderItemBulkRepository {
+    // 한 번의 INSERT 문에 담는 최대 행 수 (max_allowed_packet 여유)
+    private static final int CHUNK_SIZE = 500;
+    private static final int COLUMN_COUNT = 7;
+
+    private static final String INSERT_PREFIX = "INSERT INTO order_item (order_id, product_id, product_name, " +
+            "quantity, unit_price, total_price, status, created_at, updated_at) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, NOW(), NOW())";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Long> bulkInsertOrderItems(List<OrderItem> orderItems) {
+        if (orderItems == null || orderItems.isEmpty()) return List.of();
+
+        List<Long> ids = new ArrayList<>(orderItems.size());
+        for (int from = 0; from < orderItems.size(); from += CHUNK_SIZE) {
+            List<OrderItem> chunk = orderItems.subList(from, Math.min(from + CHUNK_SIZE, orderItems.size()));
+            ids.addAll(insertChunk(chunk));
+        }
+        return ids;
+    }
+
+    private List<Long> insertChunk(List<OrderItem> chunk) {
+        String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(chunk.size(), ROW_PLACEHOLDER));
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+            int index = 1;
+            for (OrderItem item : chunk) {
+                ps.setObject(index, item.getOrderId());
+                ps.setObject(index + 1, item.getProductId());
+                ps.setString(index + 2, item.getProductName());
+                ps.setObject(index + 3, item.getQuantity());
+                ps.setBigDecimal(index + 4, item.getUnitPrice());
+                ps.setBigDecimal(index + 5, item.getTotalPrice());
+                ps.setString(index + 6, item.getStatus().name());
+                index += COLUMN_COUNT;
+            }
+            return ps;
+        }, keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() == chunk.size()) {
+            return keys.stream()
+                    .map(key -> ((Number) key.values().iterator().next()).longValue())
+                    .toList();
+        }
+
+        // 드라이버가 첫 번째 키만 돌려주는 경우: 다중 행 INSERT는 연속된 ID를 받음 (innodb_autoinc_lock_mode 0/1)
+        long firstId = ((Number) keys.get(0).values().iterator().next()).longValue();
+        List<Long> ids = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            ids.add(firstId + i);
+        }
+        return ids;
+    }
+}
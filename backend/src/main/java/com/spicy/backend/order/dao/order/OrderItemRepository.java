@@ -7,7 +7,7 @@ import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
-public interface OrderItemRepository extends JpaRepository<OrderItem, Long>, OrderItemRepositoryCustom {
+public interface OrderItemRepository extends JpaRepository<OrderItem, Long>, OrderItemRepositoryCustom, OrderItemBulkRepository {
 
     // 정산에서 주문ID로 아이템 조회할 때 사용
     List<OrderItem> findAllByOrderId(Long orderId);
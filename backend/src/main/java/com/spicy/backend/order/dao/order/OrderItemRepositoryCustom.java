@@ -1,9 +1,20 @@
 package com.spicy.backend.order.dao.order;
 
 import com.spicy.backend.order.domain.OrderItem;
+import com.spicy.backend.order.dto.response.OrderItemResponse;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface OrderItemRepositoryCustom {
     List<OrderItem> findAllByUserIdAndStoreIdAndOrderIdAndDeletedAtIsNullOrderByCreatedAtDesc(Long userId, Long storeId, Long orderId);
+
+    // 주문 상세 조회용 (엔티티 대신 응답 레코드로 조회)
+    List<OrderItemResponse> findOrderItemResponses(Long userId, Long storeId, Long orderId);
+
+    // 주문 상품 상태를 한 번의 UPDATE로 취소 처리 (이미 취소된 상품은 제외)
+    long cancelAllByOrderIds(Collection<Long> orderIds);
+
+    // 주문 상품 상태를 한 번의 UPDATE로 도착 처리
+    long deliverAllByOrderIds(Collection<Long> orderIds);
 }
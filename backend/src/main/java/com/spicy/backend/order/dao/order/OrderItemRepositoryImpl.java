@@ -1,9 +1,14 @@
 package com.spicy.backend.order.dao.order;
 
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.spicy.backend.order.domain.OrderItem;
+import com.spicy.backend.order.dto.response.OrderItemResponse;
+import com.spicy.backend.order.enums.Status;
 import lombok.RequiredArgsConstructor;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 import static com.spicy.backend.order.domain.QOrder.order;
@@ -28,4 +33,52 @@ public class OrderItemRepositoryImpl implements OrderItemRepositoryCustom {
                 .orderBy(order.createdAt.desc())
                 .fetch();
     }
+
+    @Override
+    public List<OrderItemResponse> findOrderItemResponses(Long userId, Long storeId, Long orderId) {
+        return queryFactory
+                .select(Projections.constructor(
+                        OrderItemResponse.class,
+                        orderItem.productName,
+                        orderItem.quantity,
+                        orderItem.unitPrice,
+                        orderItem.totalPrice
+                ))
+                .from(orderItem)
+                .join(order).on(orderItem.orderId.eq(order.id))
+                .where(
+                        order.id.eq(orderId),
+                        order.storeId.eq(storeId),
+                        order.userId.eq(userId),
+                        order.deletedAt.isNull()
+                )
+                .orderBy(orderItem.id.asc())
+                .fetch();
+    }
+
+    @Override
+    public long cancelAllByOrderIds(Collection<Long> orderIds) {
+        return queryFactory
+                .update(orderItem)
+                .set(orderItem.status, Status.CANCELLED)
+                .set(orderItem.updatedAt, LocalDateTime.now())
+                .where(
+                        orderItem.orderId.in(orderIds),
+                        orderItem.status.ne(Status.CANCELLED)
+                )
+                .execute();
+    }
+
+    @Override
+    public long deliverAllByOrderIds(Collection<Long> orderIds) {
+        return queryFactory
+                .update(orderItem)
+                .set(orderItem.status, Status.DELIVERED)
+                .set(orderItem.updatedAt, LocalDateTime.now())
+                .where(
+                        orderItem.orderId.in(orderIds),
+                        orderItem.status.in(Status.PENDING, Status.PROCESSING, Status.SHIPPED)
+                )
+                .execute();
+    }
 }
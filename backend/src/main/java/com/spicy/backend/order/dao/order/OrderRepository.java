@@ -10,7 +10,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface OrderRepository extends JpaRepository<Order, Long> {
+public interface OrderRepository extends JpaRepository<Order, Long>, OrderRepositoryCustom {
     List<Order> findAllByStoreIdAndStatusOrderByCreatedAt(Long storeId, Status status);
 
     List<Order> findAllByStoreIdAndStatusAndDeletedAtIsNullOrderByCreatedAtDesc(Long storeId, Status status);
@@ -26,6 +26,9 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
             LocalDateTime endx
     );
 
+    long countByStoreIdAndStatusNotAndCreatedAtBetweenAndDeletedAtIsNull(
+            Long storeId, Status status, LocalDateTime start, LocalDateTime end);
+
     List<Order> findAllByUserIdAndStoreIdAndStatusAndDeletedAtIsNullOrderByCreatedAtDesc(Long userId, Long storeId, Status status);
 
     Optional<Order> findByUserIdAndStoreIdAndIdAndDeletedAtIsNull(Long userId, Long storeId, Long orderId);
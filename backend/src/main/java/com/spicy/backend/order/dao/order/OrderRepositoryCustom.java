@@ -0,0 +1,40 @@
+package com.spicy.backend.order.dao.order;
+
+import com.spicy.backend.order.dto.response.OrderResponse;
+import com.spicy.backend.order.enums.Status;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface OrderRepositoryCustom {
+    // (createdAt, id) 커서 이후의 주문을 최신순으로 limit 건 조회 (커서가 null이면 첫 페이지)
+    List<OrderResponse> findPageByCursor(
+            Long userId,
+            Long storeId,
+            Status status,
+            LocalDateTime cursorCreatedAt,
+            Long cursorId,
+            int limit);
+
+    // 기간 내 가맹점 주문 목록 (정산 팝업용)
+    List<OrderResponse> findOrderResponsesByStoreIdAndStatusAndCreatedAtBetween(
+            Long storeId,
+            Status status,
+            LocalDateTime start,
+            LocalDateTime end);
+
+    // 주문 단건 (취소 응답용)
+    Optional<OrderResponse> findOrderResponse(Long userId, Long storeId, Long orderId);
+
+    // 취소할 수 있는(진행 중인) 주문 ID만 조회하고 행 잠금 (userId, storeId가 null이면 소유자 조건 없이 조회)
+    // 같은 트랜잭션의 cancelOrders는 잠근 주문만 바꾸므로 취소 후속 처리를 이 ID에만 적용
+    List<Long> findCancellableOrderIdsForUpdate(Long userId, Long storeId, Collection<Long> orderIds);
+
+    // 주문 상태를 한 번의 UPDATE로 취소 처리 (진행 중인 주문만, userId, storeId가 null이면 소유자 조건 없이 처리)
+    long cancelOrders(Long userId, Long storeId, Collection<Long> orderIds);
+
+    // 주문 상태를 한 번의 UPDATE로 도착 처리 (진행 중인 주문만)
+    long deliverOrders(Collection<Long> orderIds);
+}
@@ -0,0 +1,175 @@
+package com.spicy.backend.order.dao.order;
+
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.spicy.backend.order.dto.response.OrderResponse;
+import com.spicy.backend.order.enums.Status;
+import jakarta.persistence.LockModeType;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static com.spicy.backend.order.domain.QOrder.order;
+
+@RequiredArgsConstructor
+public class OrderRepositoryImpl implements OrderRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    // 조회 전용 목록은 엔티티 대신 응답 레코드로 바로 조회 (영속성 컨텍스트/스냅샷 생성 없음)
+    private static final ConstructorExpression<OrderResponse> ORDER_RESPONSE = Projections.constructor(
+            OrderResponse.class,
+            order.id,
+            order.orderNumber,
+            order.totalAmount,
+            order.status,
+            order.deliveryDate,
+            order.address,
+            order.receiverName,
+            order.receiverPhone,
+            order.memo,
+            order.createdAt
+    );
+
+    @Override
+    public List<OrderResponse> findPageByCursor(
+            Long userId,
+            Long storeId,
+            Status status,
+            LocalDateTime cursorCreatedAt,
+            Long cursorId,
+            int limit
+    ) {
+        // 1. 인덱스(idx_orders_user_store_status_created)만으로 페이지의 주문 ID 조회
+        List<Long> ids = queryFactory
+                .select(order.id)
+                .from(order)
+                .where(
+                        order.userId.eq(userId),
+                        order.storeId.eq(storeId),
+                        order.status.eq(status),
+                        order.deletedAt.isNull(),
+                        afterCursor(cursorCreatedAt, cursorId)
+                )
+                .orderBy(order.createdAt.desc(), order.id.desc())
+                .limit(limit)
+                .fetch();
+
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        // 2. 해당 페이지의 주문만 PK로 조회
+        return queryFactory
+                .select(ORDER_RESPONSE)
+                .from(order)
+                .where(order.id.in(ids))
+                .orderBy(order.createdAt.desc(), order.id.desc())
+                .fetch();
+    }
+
+    @Override
+    public List<OrderResponse> findOrderResponsesByStoreIdAndStatusAndCreatedAtBetween(
+            Long storeId,
+            Status status,
+            LocalDateTime start,
+            LocalDateTime end
+    ) {
+        return queryFactory
+                .select(ORDER_RESPONSE)
+                .from(order)
+                .where(
+                        order.storeId.eq(storeId),
+                        order.status.eq(status),
+                        order.createdAt.between(start, end),
+                        order.deletedAt.isNull()
+                )
+                .orderBy(order.createdAt.asc(), order.id.asc())
+                .fetch();
+    }
+
+    @Override
+    public Optional<OrderResponse> findOrderResponse(Long userId, Long storeId, Long orderId) {
+        return Optional.ofNullable(queryFactory
+                .select(ORDER_RESPONSE)
+                .from(order)
+                .where(
+                        order.id.eq(orderId),
+                        order.userId.eq(userId),
+                        order.storeId.eq(storeId),
+                        order.deletedAt.isNull()
+                )
+                .fetchOne());
+    }
+
+    @Override
+    public List<Long> findCancellableOrderIdsForUpdate(Long userId, Long storeId, Collection<Long> orderIds) {
+        // 동시에 같은 주문을 취소해도 한쪽만 잠금을 얻도록 ID 순으로 잠금
+        return queryFactory
+                .select(order.id)
+                .from(order)
+                .where(
+                        order.id.in(orderIds),
+                        eqUserId(userId),
+                        eqStoreId(storeId),
+                        order.status.in(Status.PENDING, Status.PROCESSING, Status.SHIPPED),
+                        order.deletedAt.isNull()
+                )
+                .orderBy(order.id.asc())
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .fetch();
+    }
+
+    @Override
+    public long cancelOrders(Long userId, Long storeId, Collection<Long> orderIds) {
+        // 이미 취소됐거나 도착 처리된 주문은 조건에서 제외되어 변경 없음
+        return queryFactory
+                .update(order)
+                .set(order.status, Status.CANCELLED)
+                .set(order.updatedAt, LocalDateTime.now())
+                .where(
+                        order.id.in(orderIds),
+                        eqUserId(userId),
+                        eqStoreId(storeId),
+                        order.status.in(Status.PENDING, Status.PROCESSING, Status.SHIPPED),
+                        order.deletedAt.isNull()
+                )
+                .execute();
+    }
+
+    @Override
+    public long deliverOrders(Collection<Long> orderIds) {
+        // 취소됐거나 이미 도착 처리된 주문은 제외
+        return queryFactory
+                .update(order)
+                .set(order.status, Status.DELIVERED)
+                .set(order.updatedAt, LocalDateTime.now())
+                .where(
+                        order.id.in(orderIds),
+                        order.status.in(Status.PENDING, Status.PROCESSING, Status.SHIPPED),
+                        order.deletedAt.isNull()
+                )
+                .execute();
+    }
+
+    private BooleanExpression eqUserId(Long userId) {
+        return userId != null ? order.userId.eq(userId) : null;
+    }
+
+    private BooleanExpression eqStoreId(Long storeId) {
+        return storeId != null ? order.storeId.eq(storeId) : null;
+    }
+
+    private BooleanExpression afterCursor(LocalDateTime cursorCreatedAt, Long cursorId) {
+        if (cursorCreatedAt == null || cursorId == null) {
+            return null;
+        }
+        return order.createdAt.lt(cursorCreatedAt)
+                .or(order.createdAt.eq(cursorCreatedAt).and(order.id.lt(cursorId)));
+    }
+}
@@ -9,6 +9,8 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.Size;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -21,17 +23,26 @@ import lombok.NoArgsConstructor;
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        uniqueConstraints = {
+                // 사용자 + 가맹점 + 상품당 한 행 (같은 상품은 수량만 증가)
+                @UniqueConstraint(
+                        name = "uk_cart_item_user_store_product",
+                        columnNames = {"user_id", "store_id", "product_id"}
+                )
+        }
+)
 public class CartItem extends BaseEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     // fk: 가맹점 식별 번호
-    @Column(nullable = false)
+    @Column(name = "store_id", nullable = false)
     private Long storeId;
 
     // fk: 사용자 식별 번호
-    @Column(nullable = false)
+    @Column(name = "user_id", nullable = false)
     private Long userId;
 
     // fk: 상품 식별 번호
@@ -3,7 +3,6 @@ package com.spicy.backend.order.domain;
 import com.spicy.backend.global.entity.BaseEntity;
 import com.spicy.backend.order.dto.request.OrderCreateRequest;
 import com.spicy.backend.order.enums.Status;
-import com.spicy.backend.order.util.OrderNumberGenerator;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -11,6 +10,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -24,7 +24,21 @@ import java.time.LocalDate;
 @Entity
 @Getter
 @Builder
-@Table(name = "orders")
+@Table(
+        name = "orders",
+        indexes = {
+                // 주문 내역 커서 페이지 조회용 (InnoDB 보조 인덱스에 PK(id)가 포함되어 ID 조회는 인덱스만으로 처리)
+                @Index(
+                        name = "idx_orders_user_store_status_created",
+                        columnList = "user_id, store_id, status, deleted_at, created_at"
+                ),
+                // 일괄 정산에서 하루치 주문을 가맹점별로 집계
+                @Index(
+                        name = "idx_orders_created_store",
+                        columnList = "created_at, store_id"
+                )
+        }
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 public class Order extends BaseEntity {
@@ -80,7 +94,7 @@ public class Order extends BaseEntity {
         this.totalAmount = totalPrice;
     }
 
-    public static Order create(Long userId, OrderCreateRequest request, Long storeId) {
+    public static Order create(Long userId, OrderCreateRequest request, Long storeId, String orderNumber) {
         return Order.builder()
                 .userId(userId)
                 .storeId(storeId)
@@ -90,7 +104,7 @@ public class Order extends BaseEntity {
                 .receiverPhone(request.receiverPhone())
                 .memo(request.memo())
                 .status(Status.PENDING)
-                .orderNumber(OrderNumberGenerator.generate())
+                .orderNumber(orderNumber)
                 .totalAmount(BigDecimal.ZERO)
                 .build();
     }
@@ -3,6 +3,7 @@ package com.spicy.backend.order.domain;
 import com.spicy.backend.global.entity.BaseEntity;
 import com.spicy.backend.global.error.errorcode.GlobalErrorCode;
 import com.spicy.backend.global.error.exception.BusinessException;
+import com.spicy.backend.order.dto.response.ProductInfo;
 import com.spicy.backend.order.enums.Status;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -61,13 +62,13 @@ public class OrderItem extends BaseEntity {
     @Enumerated(EnumType.STRING)
     private Status status = Status.PENDING;
 
-    public static OrderItem create(CartItem item) {
+    public static OrderItem create(ProductInfo product, Long quantity) {
         return OrderItem.builder()
-                .productId(item.getProduct().getProductId())
-                .productName(item.getProduct().getProductName())
-                .quantity(item.getQuantity())
-                .unitPrice(item.getProduct().getPrice())
-                .totalPrice(item.getProduct().getPrice().multiply(BigDecimal.valueOf(item.getQuantity())))
+                .productId(product.productId())
+                .productName(product.productName())
+                .quantity(quantity)
+                .unitPrice(product.price())
+                .totalPrice(product.price().multiply(BigDecimal.valueOf(quantity)))
                 .build();
     }
 
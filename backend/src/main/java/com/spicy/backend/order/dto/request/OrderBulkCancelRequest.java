@@ -0,0 +1,14 @@
+package com.spicy.backend.order.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record OrderBulkCancelRequest(
+        // 취소할 주문 ID 목록
+        @NotEmpty
+        @Size(max = 1000)
+        List<Long> orderIds
+) {
+}
@@ -0,0 +1,9 @@
+package com.spicy.backend.order.dto.response;
+
+// 장바구니 한 줄 (상품 정보는 ProductCatalog에서 조회)
+public record CartLine(
+        Long cartItemId,
+        Long productId,
+        Long quantity
+) {
+}
@@ -0,0 +1,13 @@
+package com.spicy.backend.order.dto.response;
+
+public record OrderBulkCancelResponse(
+        // 요청한 주문 수 (중복 제외)
+        int requestedCount,
+
+        // 이번 요청으로 취소된 주문 수 (이미 취소/도착 처리됐거나 없는 주문 제외)
+        long canceledOrderCount,
+
+        // 이번 요청으로 취소된 주문 상품 수
+        long canceledItemCount
+) {
+}
@@ -0,0 +1,29 @@
+package com.spicy.backend.order.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record OrderPageResponse(
+        List<OrderResponse> orders,
+
+        // 다음 페이지 존재 여부
+        boolean hasNext,
+
+        // 다음 페이지 요청 시 넘길 커서 (이 페이지 마지막 주문의 생성 일시, ID)
+        LocalDateTime nextCursorCreatedAt,
+
+        Long nextCursorId
+) {
+    // size + 1건을 조회해 다음 페이지 존재 여부 판단
+    public static OrderPageResponse of(List<OrderResponse> fetched, int size) {
+        boolean hasNext = fetched.size() > size;
+        List<OrderResponse> page = hasNext ? fetched.subList(0, size) : fetched;
+
+        if (!hasNext) {
+            return new OrderPageResponse(page, false, null, null);
+        }
+
+        OrderResponse last = page.get(page.size() - 1);
+        return new OrderPageResponse(page, true, last.createdAt(), last.orderId());
+    }
+}
@@ -0,0 +1,31 @@
+package com.spicy.backend.order.dto.response;
+
+import com.spicy.backend.order.domain.Product;
+
+import java.math.BigDecimal;
+
+// 상품 카탈로그 캐시에 보관하는 상품 정보 (영속성 컨텍스트와 분리된 읽기 전용 값)
+public record ProductInfo(
+        Long productId,
+
+        String productCode,
+
+        String productName,
+
+        BigDecimal price,
+
+        String description,
+
+        Boolean isActive
+) {
+    public static ProductInfo from(Product product) {
+        return new ProductInfo(
+                product.getProductId(),
+                product.getProductCode(),
+                product.getProductName(),
+                product.getPrice(),
+                product.getDescription(),
+                product.getIsActive()
+        );
+    }
+}
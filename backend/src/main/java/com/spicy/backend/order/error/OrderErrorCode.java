@@ -12,7 +12,16 @@ public enum OrderErrorCode implements BaseErrorCode {
     ORDER_NOT_FOUND(HttpStatus.NOT_FOUND, "주문이 존재하지 않거나 권한이 없습니다", "O001"),
 
     // 주문 정보 존재하지 않음
-    ORDER_ITEM_NOT_FOUND(HttpStatus.NOT_FOUND, "주문 상품이 존재하지 않거나 권한이 없습니다.", "O002");
+    ORDER_ITEM_NOT_FOUND(HttpStatus.NOT_FOUND, "주문 상품이 존재하지 않거나 권한이 없습니다.", "O002"),
+
+    // 같은 Idempotency-Key로 다른 내용의 주문 요청
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "이미 사용된 Idempotency-Key입니다. 다른 주문에는 새 키를 사용해주세요.", "O003"),
+
+    // 같은 주문 요청이 아직 처리 중
+    ORDER_IN_PROGRESS(HttpStatus.CONFLICT, "같은 주문 요청을 처리 중입니다. 잠시 후 다시 시도해주세요.", "O004"),
+
+    // 취소됐거나 이미 도착 처리된 주문
+    ORDER_NOT_DELIVERABLE(HttpStatus.CONFLICT, "도착 처리할 수 없는 주문입니다.", "O005");
 
     private final HttpStatus status;
     private final String message;
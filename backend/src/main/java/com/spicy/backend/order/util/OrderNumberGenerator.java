@@ -1,29 +1,99 @@
 package com.spicy.backend.order.util;
 
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
-import java.util.concurrent.ThreadLocalRandom;
 
+// 주문번호: ORD-yyyyMMdd-XXXXXXXXXX
+// 뒤 10자리는 (당일 경과 ms 27bit | 노드 ID 8bit | 시퀀스 12bit)를 36진수로 표현 -> DB 조회 없이 노드별로 유일
+@Slf4j
 public class OrderNumberGenerator {
 
-    public static String generate() {
-        // 날짜
-        String date = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+    private static final int NODE_BITS = 8;
+    private static final int SEQUENCE_BITS = 12;
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    private static final int MAX_SEQUENCE = (1 << SEQUENCE_BITS) - 1;
+
+    private static final int BODY_LENGTH = 10;
+    private static final char[] DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    // 이 이상 시계가 뒤로 가면 경고 로그
+    private static final long CLOCK_SKEW_WARN_MILLIS = 1000;
+
+    private final int nodeId;
+    private final Clock clock;
+    private final ZoneId zone;
 
-        // 식별자
-        String randomStr = generateRandomString(6);
+    // 마지막으로 발급한 시각 (시계가 뒤로 가도 줄어들지 않는 논리 시각)
+    private long lastMillis = -1L;
+    private int sequence;
 
-        return "ORD-" + date + "-" + randomStr;
+    // 날짜 접두사 캐시 ("ORD-yyyyMMdd-"와 해당 날짜의 시작/끝 시각)
+    private char[] prefix;
+    private long dayStartMillis;
+    private long dayEndMillis;
+
+    public OrderNumberGenerator(int nodeId, Clock clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 ID는 0 ~ " + MAX_NODE_ID + " 사이여야 합니다: " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+        this.zone = clock.getZone();
     }
 
-    private static String generateRandomString(int length) {
-        String characters = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
-        StringBuilder sb = new StringBuilder(length);
-        ThreadLocalRandom random = ThreadLocalRandom.current();
+    public String next() {
+        char[] buf;
+        long body;
+
+        synchronized (this) {
+            long now = clock.millis();
 
-        for (int i = 0; i < length; i++) {
-            sb.append(characters.charAt(random.nextInt(characters.length())));
+            if (now > lastMillis) {
+                lastMillis = now;
+                sequence = 0;
+            } else {
+                // 같은 ms이거나 시계가 뒤로 간 경우: 논리 시각을 유지한 채 시퀀스 증가
+                if (lastMillis - now > CLOCK_SKEW_WARN_MILLIS && sequence == 0) {
+                    log.warn("시스템 시계가 {}ms 뒤로 이동했습니다. 논리 시각 기준으로 주문번호를 발급합니다.", lastMillis - now);
+                }
+                if (++sequence > MAX_SEQUENCE) {
+                    // 한 ms에 4096건을 넘으면 다음 ms를 미리 사용
+                    lastMillis++;
+                    sequence = 0;
+                }
+            }
+
+            if (prefix == null || lastMillis < dayStartMillis || lastMillis >= dayEndMillis) {
+                refreshPrefix(lastMillis);
+            }
+
+            long millisOfDay = lastMillis - dayStartMillis;
+            body = (millisOfDay << (NODE_BITS + SEQUENCE_BITS))
+                    | ((long) nodeId << SEQUENCE_BITS)
+                    | sequence;
+
+            buf = new char[prefix.length + BODY_LENGTH];
+            System.arraycopy(prefix, 0, buf, 0, prefix.length);
         }
-        return sb.toString();
+
+        // 36진수 고정 10자리 (같은 날짜 안에서는 문자열 순서 = 발급 순서)
+        for (int i = buf.length - 1; i >= buf.length - BODY_LENGTH; i--) {
+            buf[i] = DIGITS[(int) (body % DIGITS.length)];
+            body /= DIGITS.length;
+        }
+        return new String(buf);
+    }
+
+    private void refreshPrefix(long millis) {
+        LocalDate date = Instant.ofEpochMilli(millis).atZone(zone).toLocalDate();
+        prefix = ("ORD-" + date.format(DATE_FORMAT) + "-").toCharArray();
+        dayStartMillis = date.atStartOfDay(zone).toInstant().toEpochMilli();
+        dayEndMillis = date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
     }
 }
@@ -1,32 +1,61 @@
 package com.spicy.backend.settlement.api;
 
+import com.spicy.backend.global.error.exception.BusinessException;
 import com.spicy.backend.order.dto.response.OrderResponse;
+import com.spicy.backend.settlement.application.SalesRollupBackfillJob;
+import com.spicy.backend.settlement.application.SettlementBatchJob;
 import com.spicy.backend.settlement.application.SettlementFileService;
+import com.spicy.backend.settlement.application.SettlementPdfCache;
 import com.spicy.backend.settlement.application.SettlementService;
 import com.spicy.backend.settlement.dto.request.DailySettlementRequest;
 import com.spicy.backend.settlement.dto.request.MonthlySettlementRequest;
 import com.spicy.backend.settlement.dto.response.DailySettlementResponse;
 import com.spicy.backend.settlement.dto.response.MonthlySettlementResponse;
+import com.spicy.backend.settlement.dto.response.SettlementBatchResult;
+import com.spicy.backend.settlement.dto.response.StoredPdfFile;
+import com.spicy.backend.settlement.error.SettlementErrorCode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 @Tag(name = "Settlement", description = "정산 API (본사 매입 내역 및 영수증)")
 @RestController
@@ -35,8 +64,17 @@ import java.util.List;
 @RequestMapping("/api/v1/settlements")
 public class SettlementController {
 
+    // Tomcat sendfile 요청 속성
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
     private final SettlementService settlementService;
     private final SettlementFileService settlementFileService;
+    private final SettlementPdfCache settlementPdfCache;
+    private final SalesRollupBackfillJob salesRollupBackfillJob;
+    private final SettlementBatchJob settlementBatchJob;
 
     @Operation(
             summary = "일별 매입 내역 조회",
@@ -55,18 +93,25 @@ public class SettlementController {
             description = "특정 날짜의 물품 매입 상세 내역이 담긴 영수증 PDF를 다운로드합니다."
     )
     @GetMapping("/daily/download")
-    public ResponseEntity<byte[]> downloadDailySettlementPdf(
-            @Valid DailySettlementRequest request) {
+    public ResponseEntity<StreamingResponseBody> downloadDailySettlementPdf(
+            @Valid DailySettlementRequest request, WebRequest webRequest) {
 
         // 1. 일별 데이터 조회 (상세 품목 포함)
         DailySettlementResponse responseData = settlementService.getDailySettlement(request);
 
-        // 2. 일별 PDF 생성
-        byte[] pdfFile = settlementFileService.createDailySettlementPdf(responseData, request.date());
+        // 2. 같은 데이터로 받은 적 있으면 304
+        String cacheKey = settlementPdfCache.keyOf("DAILY", request.storeId(), request.date().toString(), responseData);
+        if (webRequest.checkNotModified(cacheKey)) {
+            return null;
+        }
+
+        // 3. 캐시에 없을 때만 PDF 생성
+        Supplier<Path> pdfFile = () -> settlementPdfCache.getOrRender(cacheKey,
+                target -> settlementFileService.writeDailySettlementPdf(responseData, request.date(), target));
 
-        // 3. 응답 처리
+        // 4. 응답 처리
         log.info("DailydownloadSettlement=======> {}", request);
-        return createPdfResponse(pdfFile, "daily_receipt_" + request.date() + ".pdf");
+        return createPdfResponse(pdfFile, cacheKey, "daily_receipt_" + request.date() + ".pdf");
     }
 
     @Operation(
@@ -87,17 +132,24 @@ public class SettlementController {
             description = "선택한 월의 물품 매입 상세 내역이 담긴 영수증 PDF를 다운로드합니다."
     )
     @GetMapping("/monthly/download")
-    public ResponseEntity<byte[]> downloadMonthlySettlementPdf(
-            @Valid MonthlySettlementRequest request) {
+    public ResponseEntity<StreamingResponseBody> downloadMonthlySettlementPdf(
+            @Valid MonthlySettlementRequest request, WebRequest webRequest) {
 
         // 1. 월별 데이터 조회 (상세 품목 포함)
         MonthlySettlementResponse responseData = settlementService.getMonthlySettlement(request);
 
-        // 2. 월별 PDF 생성
-        byte[] pdfFile = settlementFileService.createMonthlySettlementPdf(responseData, request.yearMonth());
+        // 2. 같은 데이터로 받은 적 있으면 304
+        String cacheKey = settlementPdfCache.keyOf("MONTHLY", request.storeId(), request.yearMonth(), responseData);
+        if (webRequest.checkNotModified(cacheKey)) {
+            return null;
+        }
+
+        // 3. 캐시에 없을 때만 PDF 생성
+        Supplier<Path> pdfFile = () -> settlementPdfCache.getOrRender(cacheKey,
+                target -> settlementFileService.writeMonthlySettlementPdf(responseData, request.yearMonth(), target));
 
-        // 3. 응답 처리
-        return createPdfResponse(pdfFile, "receipt_" + request.yearMonth() + ".pdf");
+        // 4. 응답 처리
+        return createPdfResponse(pdfFile, cacheKey, "receipt_" + request.yearMonth() + ".pdf");
     }
 
     @Operation(
@@ -136,11 +188,34 @@ public class SettlementController {
     ) { log.info("generatereq======> {}", request);
 
         settlementService.createSettlement(request.storeId(), request.date());
-        String responseMessage = "정산 데이터 및 PDF 영수증 생성 완료";
+        String responseMessage = "정산 데이터 생성 완료 (PDF 영수증은 생성 중)";
 
         log.info("generateres======> {}", responseMessage);
 
-        return ResponseEntity.ok("정산 데이터 및 PDF 영수증 생성 완료");
+        return ResponseEntity.ok(responseMessage);
+    }
+
+    @Operation(
+            summary = "전체 가맹점 일괄 정산 (본사)",
+            description = "해당 날짜에 아직 정산되지 않은 모든 가맹점의 정산과 PDF를 한 번에 생성합니다. 중간에 실패해도 다시 실행하면 남은 가맹점만 처리합니다."
+    )
+    @PostMapping("/batch")
+    @PreAuthorize("hasRole('HQ')")
+    public ResponseEntity<SettlementBatchResult> runBatchSettlement(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return ResponseEntity.ok(settlementBatchJob.run(date));
+    }
+
+    @Operation(
+            summary = "일자별 상품 합계 재집계 (본사)",
+            description = "기간 내 주문 이력으로 정산용 일자별 상품 합계를 다시 집계합니다. 여러 번 실행해도 결과는 같습니다."
+    )
+    @PostMapping("/rollup/backfill")
+    @PreAuthorize("hasRole('HQ')")
+    public ResponseEntity<Integer> backfillDailySales(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return ResponseEntity.ok(salesRollupBackfillJob.backfill(startDate, endDate));
     }
 
     @Operation(summary = "정산 내역 목록 조회", description = "가맹점의 전체 정산 내역 요약을 조회합니다.")
@@ -149,20 +224,107 @@ public class SettlementController {
         return ResponseEntity.ok(settlementService.getSettlementList(storeId));
     }
 
-    /*@Operation(summary = "영수증 다운로드", description = "정산 ID를 통해 저장된 PDF 영수증을 다운로드합니다.")
+    @Operation(
+            summary = "영수증 다운로드",
+            description = "정산 ID를 통해 저장된 PDF 영수증을 다운로드합니다. Range 요청으로 이어받기를 지원합니다."
+    )
     @GetMapping("/{settlementId}/download")
-    public ResponseEntity<Resource> downloadStoredPdf(@PathVariable Long settlementId) {
-        Resource resource = settlementService.getPdfFileAsResource(settlementId);
+    public ResponseEntity<StreamingResponseBody> downloadStoredPdf(
+            @PathVariable Long settlementId,
+            @RequestHeader HttpHeaders requestHeaders,
+            WebRequest webRequest) {
+        StoredPdfFile pdfFile = settlementService.getStoredPdfFile(settlementId);
+
+        // 1. 같은 파일을 받은 적 있으면 304
+        if (webRequest.checkNotModified(pdfFile.etag(), pdfFile.lastModifiedMillis())) {
+            return null;
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_PDF);
+        headers.setContentDisposition(ContentDisposition.attachment()
+                .filename(pdfFile.fileName(), StandardCharsets.UTF_8)
+                .build());
+        headers.setETag(pdfFile.etag());
+        headers.setLastModified(pdfFile.lastModifiedMillis());
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        // 마감된 기간의 영수증은 바뀌지 않으므로 다시 확인하지 않음
+        headers.setCacheControl(pdfFile.closedPeriod()
+                ? CacheControl.maxAge(365, TimeUnit.DAYS).cachePrivate().immutable()
+                : CacheControl.noCache().cachePrivate());
+
+        // 2. Range 요청이면 요청한 구간만 (If-Range가 현재 ETag와 다르면 전체, 여러 구간 요청도 전체)
+        long size = pdfFile.size();
+        long start = 0;
+        long end = size - 1;
+        HttpStatus status = HttpStatus.OK;
+        String ifRange = requestHeaders.getFirst(HttpHeaders.IF_RANGE);
+        List<HttpRange> ranges = parseRanges(requestHeaders.getFirst(HttpHeaders.RANGE));
+        if (ranges.size() == 1 && (ifRange == null || ifRange.equals(pdfFile.etag()))) {
+            try {
+                start = ranges.get(0).getRangeStart(size);
+                end = ranges.get(0).getRangeEnd(size);
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                        .header(HttpHeaders.CONTENT_RANGE, "bytes */" + size)
+                        .build();
+            }
+            status = HttpStatus.PARTIAL_CONTENT;
+            headers.set(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+        }
+        long position = start;
+        long count = end - start + 1;
+
+        // 3. Tomcat sendfile을 쓸 수 있으면 컨테이너가 파일을 소켓으로 바로 전송
+        if (Boolean.TRUE.equals(webRequest.getAttribute(SENDFILE_SUPPORT, RequestAttributes.SCOPE_REQUEST))) {
+            webRequest.setAttribute(SENDFILE_FILENAME, pdfFile.path().toString(), RequestAttributes.SCOPE_REQUEST);
+            webRequest.setAttribute(SENDFILE_START, position, RequestAttributes.SCOPE_REQUEST);
+            webRequest.setAttribute(SENDFILE_END, position + count, RequestAttributes.SCOPE_REQUEST);
+            return ResponseEntity.status(status)
+                    .headers(headers)
+                    .contentLength(count)
+                    .build();
+        }
+
+        // 4. 그 외에는 FileChannel.transferTo로 응답 스트림에 전송 (파일을 힙에 올리지 않음)
+        StreamingResponseBody body = outputStream -> transferFile(pdfFile.path(), position, count, outputStream);
+        return ResponseEntity.status(status)
+                .headers(headers)
+                .contentLength(count)
+                .body(body);
+    }
+
+    private List<HttpRange> parseRanges(String range) {
+        if (range == null) {
+            return List.of();
+        }
+        try {
+            return HttpRange.parseRanges(range);
+        } catch (IllegalArgumentException e) {
+            // 형식이 잘못된 Range는 무시하고 전체 응답
+            return List.of();
+        }
+    }
+
+    private void transferFile(Path file, long position, long count, OutputStream outputStream) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(outputStream);
+            long sent = 0;
+            while (sent < count) {
+                long transferred = channel.transferTo(position + sent, count - sent, target);
+                if (transferred <= 0) {
+                    throw new EOFException("영수증 파일이 예상보다 짧습니다: " + file);
+                }
+                sent += transferred;
+            }
+        }
+    }
 
-        return ResponseEntity.ok()
-                .contentType(MediaType.APPLICATION_PDF)
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + resource.getFilename() + "\"")
-                .body(resource);
-    }*
     /**
      * PDF 응답을 위한 공통 ResponseEntity 생성 메서드
      */
-    private ResponseEntity<byte[]> createPdfResponse(byte[] pdfFile, String fileName) {
+    private ResponseEntity<StreamingResponseBody> createPdfResponse(
+            Supplier<Path> pdfFile, String cacheKey, String fileName) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_PDF);
 
@@ -171,9 +333,48 @@ public class SettlementController {
                 .build();
         headers.setContentDisposition(contentDisposition);
 
+        // 캐시 키가 내용의 해시이므로 그대로 ETag로 사용
+        headers.setETag("\"" + cacheKey + "\"");
+
+        // 캐시에서 밀려나 파일이 지워졌으면 다시 생성 (같은 키는 내용이 같으므로 길이도 같음)
+        Path cachedFile = pdfFile.get();
+        long contentLength = sizeOf(cachedFile, pdfFile);
+
+        // 파일은 응답을 쓸 때 열어서 조금씩 응답 스트림에 기록 (byte[]로 올리지 않고, 본문이 실행되지 않으면 열지도 않음)
+        StreamingResponseBody body = outputStream -> {
+            try (InputStream in = openPdf(cachedFile, pdfFile)) {
+                in.transferTo(outputStream);
+            }
+        };
         return ResponseEntity.ok()
                 .headers(headers)
-                .contentLength(pdfFile.length)
-                .body(pdfFile);
+                .contentLength(contentLength)
+                .body(body);
+    }
+
+    private long sizeOf(Path file, Supplier<Path> pdfFile) {
+        try {
+            try {
+                return Files.size(file);
+            } catch (NoSuchFileException e) {
+                return Files.size(pdfFile.get());
+            }
+        } catch (IOException e) {
+            log.error("정산 PDF 파일 읽기 실패: {}", file, e);
+            throw new BusinessException(SettlementErrorCode.FILE_NOT_FOUND);
+        }
+    }
+
+    private InputStream openPdf(Path file, Supplier<Path> pdfFile) {
+        try {
+            try {
+                return Files.newInputStream(file);
+            } catch (NoSuchFileException e) {
+                return Files.newInputStream(pdfFile.get());
+            }
+        } catch (IOException e) {
+            log.error("정산 PDF 파일 열기 실패: {}", file, e);
+            throw new BusinessException(SettlementErrorCode.FILE_NOT_FOUND);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+package com.spicy.backend.settlement.application;
+
+import com.spicy.backend.settlement.dao.DailySalesRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+// 기존 주문 이력으로 일자별 상품 합계를 채우는 백필 작업 (한 달씩 별도 트랜잭션)
+// 재집계 중 들어오는 주문 증분과 여러 인스턴스 동시 실행을 막지 않으므로 기본은 본사 API로만 실행
+// (시작 시 자동 백필은 단일 인스턴스로 최초 배포할 때만 켬)
+// 백필 전에는 과거 일자의 합계가 비어 있으므로 최초 배포 직후 전체 기간을 한 번 백필해야 함
+@Slf4j
+@Component
+public class SalesRollupBackfillJob implements ApplicationRunner {
+
+    private final SalesRollupService salesRollupService;
+    private final DailySalesRepository dailySalesRepository;
+    private final boolean backfillOnStartup;
+
+    public SalesRollupBackfillJob(
+            SalesRollupService salesRollupService,
+            DailySalesRepository dailySalesRepository,
+            @Value("${settlement.rollup.backfill-on-startup:false}") boolean backfillOnStartup
+    ) {
+        this.salesRollupService = salesRollupService;
+        this.dailySalesRepository = dailySalesRepository;
+        this.backfillOnStartup = backfillOnStartup;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        // 합계 테이블이 비어 있으면 (최초 배포 등) 전체 주문 이력으로 한 번 채움
+        if (!backfillOnStartup || dailySalesRepository.count() > 0) {
+            return;
+        }
+        dailySalesRepository.findFirstOrderDate()
+                .ifPresent(first -> backfill(first, LocalDate.now()));
+    }
+
+    // 기간을 월 단위로 나눠 다시 집계하고 반영한 행 수 반환
+    public int backfill(LocalDate start, LocalDate end) {
+        int total = 0;
+        LocalDate from = start;
+        while (!from.isAfter(end)) {
+            LocalDate monthEnd = YearMonth.from(from).atEndOfMonth();
+            LocalDate to = monthEnd.isBefore(end) ? monthEnd : end;
+
+            total += salesRollupService.rebuild(from, to);
+            from = to.plusDays(1);
+        }
+        log.info("일자별 상품 합계 백필 완료: {} ~ {}, {}건", start, end, total);
+        return total;
+    }
+}
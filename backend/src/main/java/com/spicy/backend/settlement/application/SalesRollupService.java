@@ -0,0 +1,35 @@
+package com.spicy.backend.settlement.application;
+
+import com.spicy.backend.settlement.dao.DailySalesRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+// 주문 생성/취소 시 일자별 상품 합계(daily_store_product_sales)를 주문 트랜잭션 안에서 함께 갱신
+@Service
+@RequiredArgsConstructor
+public class SalesRollupService {
+
+    private final DailySalesRepository dailySalesRepository;
+
+    // 주문 상품 저장 후 호출
+    @Transactional
+    public void recordOrders(Collection<Long> orderIds) {
+        dailySalesRepository.addOrders(orderIds);
+    }
+
+    // 주문 취소 후, 주문 상품 취소 전에 호출 (이미 취소된 주문 상품은 다시 빼지 않음)
+    @Transactional
+    public void revertOrders(Collection<Long> orderIds) {
+        dailySalesRepository.subtractOrders(orderIds);
+    }
+
+    // 기간 내 합계를 다시 집계
+    @Transactional
+    public int rebuild(LocalDate start, LocalDate end) {
+        return dailySalesRepository.rebuild(start, end);
+    }
+}
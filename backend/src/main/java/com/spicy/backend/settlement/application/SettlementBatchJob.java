@@ -0,0 +1,173 @@
+package com.spicy.backend.settlement.application;
+
+import com.spicy.backend.global.error.exception.BusinessException;
+import com.spicy.backend.settlement.dao.DailySalesRepository;
+import com.spicy.backend.settlement.dao.SettlementRepository;
+import com.spicy.backend.settlement.domain.DailyStoreProductSales;
+import com.spicy.backend.settlement.domain.Settlement;
+import com.spicy.backend.settlement.dto.response.DailySettlementResponse;
+import com.spicy.backend.settlement.dto.response.ProductSalesInfo;
+import com.spicy.backend.settlement.dto.response.SettlementBatchResult;
+import com.spicy.backend.settlement.dto.response.SettlementItemResponse;
+import com.spicy.backend.settlement.dto.response.StoreDailyTotal;
+import com.spicy.backend.settlement.error.SettlementErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 전체 가맹점 일괄 정산: 가맹점별 합계 집계(쿼리 1번) -> PDF 병렬 생성(스레드 수 제한) -> 묶음 단위 배치 INSERT
+// 금액과 PDF 품목은 단건 정산과 같이 일자별 상품 합계에서 가져오고, 합계 행이 없는 가맹점은 정산하지 않음
+// 이미 정산된 가맹점은 집계에서 빠지므로 중간에 실패해도 다시 실행하면 남은 가맹점만 처리
+@Slf4j
+@Component
+public class SettlementBatchJob {
+
+    private final SettlementRepository settlementRepository;
+    private final DailySalesRepository dailySalesRepository;
+    private final SettlementFileService settlementFileService;
+    private final TransactionTemplate transactionTemplate;
+    private final int renderParallelism;
+    private final int chunkSize;
+
+    // 동시에 한 번만 실행
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public SettlementBatchJob(
+            SettlementRepository settlementRepository,
+            DailySalesRepository dailySalesRepository,
+            SettlementFileService settlementFileService,
+            PlatformTransactionManager transactionManager,
+            @Value("${settlement.batch.render-parallelism:4}") int renderParallelism,
+            @Value("${settlement.batch.chunk-size:200}") int chunkSize
+    ) {
+        this.settlementRepository = settlementRepository;
+        this.dailySalesRepository = dailySalesRepository;
+        this.settlementFileService = settlementFileService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.renderParallelism = renderParallelism;
+        this.chunkSize = chunkSize;
+    }
+
+    // 매일 전날 발주분 정산
+    @Scheduled(cron = "${settlement.batch.cron:0 10 0 * * *}")
+    public void settleYesterday() {
+        run(LocalDate.now().minusDays(1));
+    }
+
+    public SettlementBatchResult run(LocalDate date) {
+        if (!running.compareAndSet(false, true)) {
+            throw new BusinessException(SettlementErrorCode.SETTLEMENT_BATCH_RUNNING);
+        }
+
+        long startedAt = System.nanoTime();
+        ExecutorService renderPool = Executors.newFixedThreadPool(renderParallelism);
+        try {
+            // 1. 아직 정산되지 않은 가맹점별 발주 건수/금액 (일자별 상품 합계 기준)
+            List<StoreDailyTotal> totals = settlementRepository.findUnsettledStoreTotals(date);
+
+            // 2. PDF 품목용 (가맹점, 상품)별 합계를 한 번에 읽어 가맹점별로 묶음
+            Map<Long, List<ProductSalesInfo>> salesByStore = new HashMap<>();
+            for (DailyStoreProductSales sales : dailySalesRepository.findAllBySalesDateAndQuantityGreaterThan(date, 0)) {
+                salesByStore.computeIfAbsent(sales.getStoreId(), k -> new ArrayList<>())
+                        .add(new ProductSalesInfo(sales.getProductId(), sales.getProductName(),
+                                sales.getQuantity(), sales.getAmount()));
+            }
+
+            // 3. 묶음마다 PDF를 병렬로 만들고 한 트랜잭션으로 배치 INSERT
+            int settled = 0;
+            int failed = 0;
+            for (int from = 0; from < totals.size(); from += chunkSize) {
+                List<StoreDailyTotal> chunk = totals.subList(from, Math.min(from + chunkSize, totals.size()));
+                List<Settlement> settlements = renderChunk(chunk, salesByStore, date, renderPool);
+                failed += chunk.size() - settlements.size();
+
+                try {
+                    transactionTemplate.executeWithoutResult(status -> settlementRepository.bulkInsertSettlements(settlements));
+                    settled += settlements.size();
+                } catch (RuntimeException e) {
+                    // 같은 가맹점을 단건 정산으로 먼저 저장한 경우 등 -> 묶음 전체를 버리지 않고 한 건씩 다시 저장
+                    log.warn("일괄 정산 묶음 저장 실패, 한 건씩 다시 저장: {} 가맹점 {}개", date, settlements.size(), e);
+                    int saved = insertOneByOne(settlements, date);
+                    settled += saved;
+                    failed += settlements.size() - saved;
+                }
+            }
+
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+            double storesPerSecond = elapsedMillis > 0 ? settled * 1000.0 / elapsedMillis : settled;
+            log.info("일괄 정산 완료: {}, 대상 {}개, 완료 {}개, 실패 {}개, {}ms, {} stores/sec",
+                    date, totals.size(), settled, failed, elapsedMillis, String.format("%.1f", storesPerSecond));
+
+            return new SettlementBatchResult(date, totals.size(), settled, failed, elapsedMillis, storesPerSecond);
+        } finally {
+            renderPool.shutdown();
+            running.set(false);
+        }
+    }
+
+    // 가맹점마다 별도 트랜잭션으로 저장하고 저장한 수 반환
+    // 저장되지 않은 정산의 PDF는 참조하는 행이 없으므로 삭제 (재실행 때 다시 생성)
+    private int insertOneByOne(List<Settlement> settlements, LocalDate date) {
+        int saved = 0;
+        for (Settlement settlement : settlements) {
+            try {
+                transactionTemplate.executeWithoutResult(
+                        status -> settlementRepository.bulkInsertSettlements(List.of(settlement)));
+                saved++;
+            } catch (RuntimeException e) {
+                settlementFileService.deleteStoredPdf(settlement.getPdfUrl());
+                log.warn("일괄 정산 저장 실패: {} 가맹점 {}", date, settlement.getStoreId(), e);
+            }
+        }
+        return saved;
+    }
+
+    // PDF 생성에 실패한 가맹점은 빼고 반환
+    private List<Settlement> renderChunk(
+            List<StoreDailyTotal> chunk,
+            Map<Long, List<ProductSalesInfo>> salesByStore,
+            LocalDate date,
+            ExecutorService renderPool
+    ) {
+        List<CompletableFuture<Settlement>> futures = chunk.stream()
+                .map(total -> CompletableFuture.supplyAsync(() -> {
+                    List<SettlementItemResponse> items = salesByStore.getOrDefault(total.storeId(), List.of()).stream()
+                            .map(SettlementItemResponse::of)
+                            .toList();
+                    DailySettlementResponse pdfData = DailySettlementResponse.builder()
+                            .orderCount(total.orderCount())
+                            .dailyAmount(total.totalAmount())
+                            .items(items)
+                            .build();
+
+                    String pdfUrl = settlementFileService.saveDailySettlementPdf(total.storeId(), pdfData, date);
+                    return Settlement.daily(total.storeId(), date, total.orderCount(), total.totalAmount(), pdfUrl);
+                }, renderPool))
+                .toList();
+
+        List<Settlement> settlements = new ArrayList<>(chunk.size());
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                settlements.add(futures.get(i).join());
+            } catch (CompletionException e) {
+                log.warn("정산 PDF 생성 실패: {} 가맹점 {}", date, chunk.get(i).storeId(), e.getCause());
+            }
+        }
+        return settlements;
+    }
+}
@@ -1,93 +1,133 @@
-package com.spicy.backend.settlement.application;
-
-import com.itextpdf.html2pdf.HtmlConverter;
-import com.spicy.backend.settlement.dto.response.DailySettlementResponse;
-import com.spicy.backend.settlement.dto.response.MonthlySettlementResponse;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.stereotype.Service;
-import org.thymeleaf.context.Context;
-import org.thymeleaf.spring6.SpringTemplateEngine;
-
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.time.LocalDate;
-
-@Slf4j
-@Service
-@RequiredArgsConstructor
-public class SettlementFileService {
-
-    private final SpringTemplateEngine templateEngine;
-
-    @Value("${file.upload-dir:./uploads/settlements}")
-    private String uploadDir;
-
-    /**
-     * [컨트롤러용] 일별 PDF 바이트 생성 (즉시 다운로드용)
-     */
-
-    public byte[] createDailySettlementPdf(DailySettlementResponse data, LocalDate date) {
-
-        if (data == null || data.items() == null || data.items().isEmpty()) {
-            log.warn("정산 데이터가 비어있습니다. 날짜: {}", date);
-            // 필요시 예외 처리
-        }
-
-
-        Context context = new Context();
-        context.setVariable("type", "DAILY");
-        context.setVariable("receipt", data);
-        context.setVariable("targetDate", date);
-        return generatePdfBytes("settlement_template", context);
-    }
-
-    /**
-     * [컨트롤러용] 월별 PDF 바이트 생성 (즉시 다운로드용)
-     */
-    public byte[] createMonthlySettlementPdf(MonthlySettlementResponse data, String yearMonth) {
-        Context context = new Context();
-        context.setVariable("type", "MONTHLY");
-        context.setVariable("receipt", data);
-        context.setVariable("targetDate", yearMonth);
-        return generatePdfBytes("settlement_template", context);
-    }
-
-    /**
-     * [서비스용] 일별 PDF 생성 및 로컬 저장 (경로 반환)
-     */
-    public String saveDailySettlementPdf(DailySettlementResponse data, LocalDate date) {
-        String fileName = "daily_receipt_" + date + "_" + System.currentTimeMillis() + ".pdf";
-        byte[] content = createDailySettlementPdf(data, date);
-        return storeFile(content, fileName);
-    }
-
-    private byte[] generatePdfBytes(String templateName, Context context) {
-        try (ByteArrayOutputStream target = new ByteArrayOutputStream()) {
-            String htmlContent = templateEngine.process(templateName, context);
-            HtmlConverter.convertToPdf(htmlContent, target);
-            return target.toByteArray();
-        } catch (Exception e) {
-            log.error("PDF 바이트 생성 실패: {}", e.getMessage());
-            throw new RuntimeException("PDF 변환 중 오류가 발생했습니다.");
-        }
-    }
-
-    private String storeFile(byte[] content, String fileName) {
-        try {
-            Path directoryPath = Paths.get(uploadDir).toAbsolutePath().normalize();
-            Files.createDirectories(directoryPath);
-            Path filePath = directoryPath.resolve(fileName);
-            Files.write(filePath, content);
-            log.info("파일 저장 성공: {}", filePath);
-            return filePath.toString();
-        } catch (IOException e) {
-            log.error("파일 시스템 저장 실패: {}", e.getMessage());
-            throw new RuntimeException("파일 저장 중 오류가 발생했습니다.");
-        }
-    }
-}
\ No newline at end of file
+package com.spicy.backend.settlement.application;
+
+import com.itextpdf.html2pdf.HtmlConverter;
+import com.spicy.backend.settlement.dto.response.DailySettlementResponse;
+import com.spicy.backend.settlement.dto.response.MonthlySettlementResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SettlementFileService {
+
+    private final SpringTemplateEngine templateEngine;
+
+    @Value("${file.upload-dir:./uploads/settlements}")
+    private String uploadDir;
+
+    /**
+     * [컨트롤러용] 일별 PDF 생성 (출력 스트림에 바로 기록)
+     */
+    public void writeDailySettlementPdf(DailySettlementResponse data, LocalDate date, OutputStream target) {
+
+        if (data == null || data.items() == null || data.items().isEmpty()) {
+            log.warn("정산 데이터가 비어있습니다. 날짜: {}", date);
+            // 필요시 예외 처리
+        }
+
+
+        Context context = new Context();
+        context.setVariable("type", "DAILY");
+        context.setVariable("receipt", data);
+        context.setVariable("targetDate", date);
+        renderPdf("settlement_template", context, target);
+    }
+
+    /**
+     * [컨트롤러용] 월별 PDF 생성 (출력 스트림에 바로 기록)
+     */
+    public void writeMonthlySettlementPdf(MonthlySettlementResponse data, String yearMonth, OutputStream target) {
+        Context context = new Context();
+        context.setVariable("type", "MONTHLY");
+        context.setVariable("receipt", data);
+        context.setVariable("targetDate", yearMonth);
+        renderPdf("settlement_template", context, target);
+    }
+
+    /**
+     * [서비스용] 일별 PDF 생성 및 로컬 저장 (경로 반환)
+     */
+    public String saveDailySettlementPdf(Long storeId, DailySettlementResponse data, LocalDate date) {
+        // 배치에서 여러 가맹점을 동시에 저장하므로 파일명에 가맹점 ID 포함
+        String fileName = "daily_receipt_" + date + "_" + storeId + "_" + System.currentTimeMillis() + ".pdf";
+        return storeFile(fileName, target -> writeDailySettlementPdf(data, date, target));
+    }
+
+    // HTML은 임시 파일에, PDF는 대상 스트림에 바로 기록 (HTML 문자열/PDF 바이트 배열을 힙에 만들지 않음)
+    private void renderPdf(String templateName, Context context, OutputStream target) {
+        Path htmlFile = null;
+        try {
+            htmlFile = Files.createTempFile("settlement_", ".html");
+            try (Writer writer = Files.newBufferedWriter(htmlFile, StandardCharsets.UTF_8)) {
+                templateEngine.process(templateName, context, writer);
+            }
+            try (InputStream html = Files.newInputStream(htmlFile)) {
+                HtmlConverter.convertToPdf(html, target);
+            }
+        } catch (Exception e) {
+            log.error("PDF 생성 실패: {}", e.getMessage());
+            throw new RuntimeException("PDF 변환 중 오류가 발생했습니다.");
+        } finally {
+            deleteQuietly(htmlFile);
+        }
+    }
+
+    /**
+     * [배치용] 저장된 정산 PDF 삭제 (정산 저장에 실패해 참조하는 행이 없는 파일 정리)
+     */
+    public void deleteStoredPdf(String pdfUrl) {
+        if (pdfUrl != null) {
+            deleteQuietly(Paths.get(pdfUrl));
+        }
+    }
+
+    private String storeFile(String fileName, Consumer<OutputStream> writer) {
+        Path filePath = null;
+        try {
+            Path directoryPath = Paths.get(uploadDir).toAbsolutePath().normalize();
+            Files.createDirectories(directoryPath);
+            filePath = directoryPath.resolve(fileName);
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(filePath))) {
+                writer.accept(out);
+            }
+            log.info("파일 저장 성공: {}", filePath);
+            return filePath.toString();
+        } catch (IOException e) {
+            log.error("파일 시스템 저장 실패: {}", e.getMessage());
+            deleteQuietly(filePath);
+            throw new RuntimeException("파일 저장 중 오류가 발생했습니다.");
+        } catch (RuntimeException e) {
+            // 렌더링 중 실패하면 쓰다 만 파일 삭제
+            deleteQuietly(filePath);
+            throw e;
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", file);
+        }
+    }
+}
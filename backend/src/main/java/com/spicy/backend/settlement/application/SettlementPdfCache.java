@@ -0,0 +1,195 @@
+package com.spicy.backend.settlement.application;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+// 정산 PDF 캐시: (템플릿 버전, 가맹점, 기간, 데이터) 해시를 파일명으로 저장하고 같은 키는 디스크에서 바로 응답
+// 데이터가 바뀌면 키가 달라지므로 따로 무효화하지 않고, 용량을 넘으면 가장 오래 안 쓴 파일부터 삭제
+@Slf4j
+@Component
+public class SettlementPdfCache {
+
+    private static final String TEMPLATE_PATH = "templates/settlement_template.html";
+    private static final String EXTENSION = ".pdf";
+
+    private final Path cacheDir;
+    private final long maxBytes;
+    private final String templateFingerprint;
+
+    // 키 -> 파일 크기 (접근 순서, 맨 앞이 가장 오래 안 쓴 파일)
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    public SettlementPdfCache(
+            @Value("${file.upload-dir:./uploads/settlements}") String uploadDir,
+            @Value("${settlement.pdf.cache.max-bytes:268435456}") long maxBytes,
+            @Value("${settlement.pdf.template-version:1}") String templateVersion
+    ) {
+        // 저장된 영수증과 섞이지 않도록 하위 디렉터리 사용
+        this.cacheDir = Paths.get(uploadDir, "cache").toAbsolutePath().normalize();
+        this.maxBytes = maxBytes;
+        // 템플릿 파일이 바뀌면 버전을 올리지 않아도 키가 달라짐
+        this.templateFingerprint = templateVersion + ":" + hash(readTemplate());
+        loadEntries();
+    }
+
+    // 데이터 지문은 응답 record의 문자열 표현 (모든 필드와 품목 포함)
+    public String keyOf(String type, Long storeId, String period, Object data) {
+        return hash(templateFingerprint + "|" + type + "|" + storeId + "|" + period + "|" + data);
+    }
+
+    // 캐시에 있으면 파일 경로를 바로 반환하고, 없으면 렌더링해서 저장
+    // 렌더링 결과는 메모리에 모으지 않고 임시 파일에 바로 기록한 뒤 이름을 바꿈
+    public Path getOrRender(String key, Consumer<OutputStream> renderer) {
+        Path file = cacheDir.resolve(key + EXTENSION);
+        if (touch(key, file)) {
+            return file;
+        }
+
+        // 같은 키를 동시에 렌더링해도 내용이 같으므로 나중에 끝난 쪽이 덮어씀
+        Path tempFile = null;
+        long size;
+        try {
+            Files.createDirectories(cacheDir);
+            tempFile = Files.createTempFile(cacheDir, key, ".tmp");
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+                renderer.accept(out);
+            }
+            size = Files.size(tempFile);
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.error("정산 PDF 캐시 저장 실패: {}", e.getMessage());
+            deleteQuietly(tempFile);
+            throw new RuntimeException("파일 저장 중 오류가 발생했습니다.");
+        } catch (RuntimeException e) {
+            deleteQuietly(tempFile);
+            throw e;
+        }
+
+        put(key, size);
+        return file;
+    }
+
+    public synchronized long totalBytes() {
+        return totalBytes;
+    }
+
+    private synchronized boolean touch(String key, Path file) {
+        if (entries.get(key) == null) {
+            return false;
+        }
+        if (Files.exists(file)) {
+            return true;
+        }
+        // 밖에서 지워진 파일
+        totalBytes -= entries.remove(key);
+        return false;
+    }
+
+    private synchronized void put(String key, long size) {
+        Long previous = entries.put(key, size);
+        totalBytes += size - (previous != null ? previous : 0L);
+        evict(key);
+    }
+
+    // 방금 넣은 파일은 남기고 용량 안으로 줄임
+    private void evict(String keep) {
+        Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            Map.Entry<String, Long> eldest = iterator.next();
+            if (eldest.getKey().equals(keep)) {
+                continue;
+            }
+            try {
+                Files.deleteIfExists(cacheDir.resolve(eldest.getKey() + EXTENSION));
+            } catch (IOException e) {
+                log.warn("정산 PDF 캐시 삭제 실패: {}", eldest.getKey(), e);
+                continue;
+            }
+            totalBytes -= eldest.getValue();
+            iterator.remove();
+        }
+    }
+
+    // 서버 시작 시 디스크의 캐시 파일을 수정 시각 순으로 다시 등록
+    private synchronized void loadEntries() {
+        if (!Files.isDirectory(cacheDir)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            List<Path> cached = files
+                    .filter(file -> file.getFileName().toString().endsWith(EXTENSION))
+                    .sorted(Comparator.comparing(this::lastModified))
+                    .toList();
+            for (Path file : cached) {
+                String name = file.getFileName().toString();
+                long size = Files.size(file);
+                entries.put(name.substring(0, name.length() - EXTENSION.length()), size);
+                totalBytes += size;
+            }
+        } catch (IOException e) {
+            log.warn("정산 PDF 캐시 목록 읽기 실패: {}", cacheDir, e);
+        }
+        evict(null);
+        log.info("정산 PDF 캐시 복원 완료: {}개, {} bytes", entries.size(), totalBytes);
+    }
+
+    private void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", file);
+        }
+    }
+
+    private FileTime lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private static String readTemplate() {
+        try (InputStream in = new ClassPathResource(TEMPLATE_PATH).getInputStream()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            return "";
+        }
+    }
+
+    private static String hash(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.spicy.backend.settlement.application;
+
+import com.spicy.backend.settlement.domain.Settlement;
+import com.spicy.backend.settlement.dto.request.DailySettlementRequest;
+import com.spicy.backend.settlement.dto.response.DailySettlementResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 정산 PDF 영수증 비동기 생성: 정산 트랜잭션 커밋 후 큐에 등록하고 워커가 렌더링/저장 후 pdfUrl 반영
+// 큐가 가득 차면 받지 않고 PDF 상태 PENDING으로 남겨 두었다가 주기적으로 다시 등록 (서버 재시작 시에도 동일)
+@Slf4j
+@Component
+public class SettlementPdfRenderQueue {
+
+    private final SettlementService settlementService;
+    private final SettlementFileService settlementFileService;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+
+    private final ThreadPoolExecutor workers;
+    private final ScheduledExecutorService retryScheduler;
+    // 큐에 있거나 렌더링/재시도 대기 중인 정산 (중복 등록 방지)
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    private final Timer renderTimer;
+    private final Counter retryCounter;
+    private final Counter failureCounter;
+    private final Counter rejectedCounter;
+
+    public SettlementPdfRenderQueue(
+            SettlementService settlementService,
+            SettlementFileService settlementFileService,
+            MeterRegistry meterRegistry,
+            @Value("${settlement.pdf.workers:0}") int workerCount,
+            @Value("${settlement.pdf.queue-capacity:100}") int queueCapacity,
+            @Value("${settlement.pdf.max-attempts:3}") int maxAttempts,
+            @Value("${settlement.pdf.retry-backoff-ms:2000}") long retryBackoffMillis
+    ) {
+        this.settlementService = settlementService;
+        this.settlementFileService = settlementFileService;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+
+        // 렌더링은 CPU 작업이므로 기본 워커 수는 코어 수
+        int size = workerCount > 0 ? workerCount : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(size, size, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "settlement-pdf-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "settlement-pdf-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("settlement.pdf.queue.depth", workers, executor -> executor.getQueue().size())
+                .description("렌더링 대기 중인 정산 PDF 수")
+                .register(meterRegistry);
+        Gauge.builder("settlement.pdf.in-flight", inFlight, Set::size)
+                .description("대기/렌더링/재시도 중인 정산 PDF 수")
+                .register(meterRegistry);
+        this.renderTimer = Timer.builder("settlement.pdf.render")
+                .description("정산 PDF 렌더링 + 저장 시간")
+                .register(meterRegistry);
+        this.retryCounter = Counter.builder("settlement.pdf.retries")
+                .description("정산 PDF 생성 재시도 횟수")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("settlement.pdf.failures")
+                .description("재시도 한도를 넘겨 실패한 정산 PDF 수")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("settlement.pdf.rejected")
+                .description("큐가 가득 차 다음 주기로 미룬 정산 PDF 수")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPdfRequested(SettlementPdfRequestedEvent event) {
+        enqueue(event.settlementId());
+    }
+
+    // 큐가 가득 차면 false (PDF 상태 PENDING으로 남아 다음 주기에 다시 등록)
+    public boolean enqueue(Long settlementId) {
+        if (!inFlight.add(settlementId)) {
+            return true;
+        }
+        return submit(settlementId, 1);
+    }
+
+    // 큐에 없는 PDF 상태가 PENDING인 정산을 다시 등록 (큐 거절, 재시작 등으로 빠진 건)
+    @Scheduled(fixedDelayString = "${settlement.pdf.sweep-interval-ms:60000}")
+    public int requeuePending() {
+        int requeued = 0;
+        for (Settlement settlement : settlementService.findPdfPendingSettlements()) {
+            if (inFlight.contains(settlement.getId())) {
+                continue;
+            }
+            if (!enqueue(settlement.getId())) {
+                break;
+            }
+            requeued++;
+        }
+        if (requeued > 0) {
+            log.info("정산 PDF 생성 재등록: {}건", requeued);
+        }
+        return requeued;
+    }
+
+    public int queueDepth() {
+        return workers.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // 남은 건은 PDF 상태 PENDING으로 남아 재시작 후 다시 등록됨
+        retryScheduler.shutdownNow();
+        workers.shutdown();
+        if (!workers.awaitTermination(30, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+        }
+    }
+
+    private boolean submit(Long settlementId, int attempt) {
+        try {
+            workers.execute(() -> render(settlementId, attempt));
+            return true;
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(settlementId);
+            rejectedCounter.increment();
+            log.warn("정산 PDF 큐가 가득 차 다음 주기로 미룸: 정산 {}", settlementId);
+            return false;
+        }
+    }
+
+    void render(Long settlementId, int attempt) {
+        try {
+            // 이미 생성됐거나 실패 처리된 정산은 건너뜀
+            Optional<Settlement> pending = settlementService.findPdfPendingSettlement(settlementId);
+            if (pending.isPresent()) {
+                Settlement settlement = pending.get();
+                long startedAt = System.nanoTime();
+
+                DailySettlementResponse data = settlementService.getDailySettlement(
+                        new DailySettlementRequest(settlement.getStoreId(), settlement.getSettlementDate()));
+                String pdfUrl = settlementFileService.saveDailySettlementPdf(
+                        settlement.getStoreId(), data, settlement.getSettlementDate());
+                renderTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+
+                settlementService.completePdf(settlementId, pdfUrl);
+            }
+            inFlight.remove(settlementId);
+        } catch (RuntimeException e) {
+            if (attempt < maxAttempts) {
+                retryCounter.increment();
+                log.warn("정산 PDF 생성 실패, 재시도 예정: 정산 {}, 시도 {}회", settlementId, attempt, e);
+                retryScheduler.schedule(() -> submit(settlementId, attempt + 1),
+                        retryBackoffMillis * attempt, TimeUnit.MILLISECONDS);
+                return;
+            }
+
+            failureCounter.increment();
+            log.error("정산 PDF 생성 최종 실패: 정산 {}, 시도 {}회", settlementId, attempt, e);
+            try {
+                settlementService.failPdf(settlementId);
+            } finally {
+                inFlight.remove(settlementId);
+            }
+        }
+    }
+}
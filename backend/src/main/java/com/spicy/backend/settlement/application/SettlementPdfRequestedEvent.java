@@ -0,0 +1,5 @@
+package com.spicy.backend.settlement.application;
+
+// 정산 저장 후 PDF 영수증 생성 요청 (트랜잭션 커밋 후 렌더링 큐에 등록)
+public record SettlementPdfRequestedEvent(Long settlementId) {
+}
@@ -2,11 +2,9 @@ package com.spicy.backend.settlement.application;
 
 import com.spicy.backend.demandplan.error.DemandPlanErrorCode;
 import com.spicy.backend.global.error.exception.BusinessException;
-import com.spicy.backend.order.dao.order.OrderItemRepository;
 import com.spicy.backend.order.dao.order.OrderRepository;
-import com.spicy.backend.order.domain.Order;
-import com.spicy.backend.order.domain.OrderItem;
 import com.spicy.backend.order.dto.response.OrderResponse;
+import com.spicy.backend.settlement.dao.DailySalesRepository;
 import com.spicy.backend.settlement.dao.SettlementRepository;
 import com.spicy.backend.settlement.domain.Settlement;
 import com.spicy.backend.settlement.dto.request.DailySettlementRequest;
@@ -14,24 +12,26 @@ import com.spicy.backend.settlement.dto.request.MonthlySettlementRequest;
 import com.spicy.backend.settlement.dto.response.DailySettlementResponse;
 import com.spicy.backend.settlement.dto.response.MonthlySettlementResponse;
 import com.spicy.backend.settlement.dto.response.SettlementItemResponse;
-import com.spicy.backend.settlement.enums.SettlementStatus;
+import com.spicy.backend.settlement.dto.response.SettlementSummary;
+import com.spicy.backend.settlement.dto.response.StoredPdfFile;
+import com.spicy.backend.settlement.enums.PdfStatus;
 import com.spicy.backend.settlement.error.SettlementErrorCode;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
 import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.net.MalformedURLException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.YearMonth;
-import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -40,8 +40,8 @@ public class SettlementService {
 
     private final SettlementRepository settlementRepository;
     private final OrderRepository orderRepository;
-    private final OrderItemRepository orderItemRepository;
-    private final SettlementFileService settlementFileService;
+    private final DailySalesRepository dailySalesRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 일별 매입 내역 조회 (상세 품목 리스트 포함)
@@ -51,7 +51,7 @@ public class SettlementService {
         Settlement daily = settlementRepository.findByStoreIdAndSettlementDate(request.storeId(), request.date())
                 .orElseThrow(() -> new BusinessException(SettlementErrorCode.SETTLEMENT_NOT_FOUND));
 
-        // 2. 해당 일자의 PENDING 주문 아이템들을 다시 수집
+        // 2. 해당 일자의 상품별 합계 조회
         List<SettlementItemResponse> items =
                 getSettlementItemsInPeriod(request.storeId(), request.date(), request.date());
 
@@ -74,35 +74,20 @@ public class SettlementService {
         LocalDate start = ym.atDay(1);
         LocalDate end = ym.atEndOfMonth();
 
-        List<Settlement> monthlyList =
-                settlementRepository.findByStoreIdAndSettlementDateBetween(request.storeId(), start, end);
+        // 금액 합계와 마지막 정산의 상태/지급일은 DB에서 한 행으로 집계
+        SettlementSummary summary = settlementRepository.findSummary(request.storeId(), start, end);
 
+        // 품목 상세는 상품별로 묶은 합계
         List<SettlementItemResponse> items =
                 getSettlementItemsInPeriod(request.storeId(), start, end);
 
-        BigDecimal totalAmount = monthlyList.stream()
-                .map(Settlement::getTotalSettlementAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal totalSupply = monthlyList.stream()
-                .map(Settlement::getSupplyAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal totalTax = monthlyList.stream()
-                .map(Settlement::getTaxAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        Settlement lastSettlement = monthlyList.stream()
-                .max(Comparator.comparing(Settlement::getSettlementDate))
-                .orElse(null);
-
         return MonthlySettlementResponse.builder()
                 .items(items)
-                .totalAmount(totalAmount)
-                .supplyAmount(totalSupply)
-                .taxAmount(totalTax)
-                .status(lastSettlement != null ? lastSettlement.getStatus() : null)
-                .payoutDate(lastSettlement != null ? lastSettlement.getPayoutDate() : null)
+                .totalAmount(summary.totalAmount())
+                .supplyAmount(summary.supplyAmount())
+                .taxAmount(summary.taxAmount())
+                .status(summary.status())
+                .payoutDate(summary.payoutDate())
                 .build();
     }
 
@@ -115,90 +100,60 @@ public class SettlementService {
             throw new BusinessException(SettlementErrorCode.SETTLEMENT_ALREADY_EXISTS);
         }
 
-        // 1. PENDING 상태 주문 조회
-        List<Order> orders = orderRepository.findAllByStoreIdAndStatusAndCreatedAtBetweenAndDeletedAtIsNull(
-                storeId,
-                com.spicy.backend.order.enums.Status.PENDING, // PENDING으로 변경
-                targetDate.atStartOfDay(),
-                targetDate.atTime(LocalTime.MAX));
+        // 1. 해당 일자의 상품별 합계 조회 (주문 상품을 다시 읽지 않음)
+        List<SettlementItemResponse> itemResponses = getSettlementItemsInPeriod(storeId, targetDate, targetDate);
 
-        if (orders.isEmpty()) {
+        if (itemResponses.isEmpty()) {
             throw new BusinessException(SettlementErrorCode.NO_ORDERS_FOR_SETTLEMENT);
         }
 
-        // 2. OrderItem 전체 수집 및 금액 합산
-        List<Long> orderIds = orders.stream().map(Order::getId).toList();
-        List<OrderItem> allItems = orderItemRepository.findAllByOrderIdIn(orderIds);
-
-        // 단가 * 수량 직접 계산
-        BigDecimal totalAmount = allItems.stream()
-                .map(item -> item.getUnitPrice().multiply(BigDecimal.valueOf(item.getQuantity())))
+        // 2. 금액 합산 (상품 수만큼만 더함)
+        BigDecimal totalAmount = itemResponses.stream()
+                .map(SettlementItemResponse::totalPrice)
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
 
-        BigDecimal supplyAmount = totalAmount.divide(new BigDecimal("1.1"), 0, RoundingMode.HALF_UP);
-        BigDecimal taxAmount = totalAmount.subtract(supplyAmount);
-
-        // 3. PDF용 DTO 생성
-        List<SettlementItemResponse> itemResponses = allItems.stream()
-                .map(item -> SettlementItemResponse.builder()
-                        .productId(item.getProductId())
-                        .productName(item.getProductName())
-                        .quantity(item.getQuantity().intValue())
-                        .unitPrice(item.getUnitPrice())
-                        .totalPrice(item.getUnitPrice().multiply(BigDecimal.valueOf(item.getQuantity())))
-                        .build())
-                .toList();
+        // 3. 발주 건수 (인덱스 COUNT 한 번)
+        int orderCount = Math.toIntExact(orderRepository.countByStoreIdAndStatusNotAndCreatedAtBetweenAndDeletedAtIsNull(
+                storeId,
+                com.spicy.backend.order.enums.Status.CANCELLED,
+                targetDate.atStartOfDay(),
+                targetDate.atTime(LocalTime.MAX)));
 
-        DailySettlementResponse pdfData = DailySettlementResponse.builder()
-                .orderCount(orders.size())
-                .dailyAmount(totalAmount)
-                .items(itemResponses)
-                .build();
+        // 4. PDF 상태 PENDING으로 저장 후 커밋되면 PDF 생성 요청 (렌더링 동안 DB 커넥션을 잡지 않음)
+        Settlement settlement =
+                settlementRepository.save(Settlement.daily(storeId, targetDate, orderCount, totalAmount, null));
 
-        // 4. 저장
-        String savedLocalPath = settlementFileService.saveDailySettlementPdf(pdfData, targetDate);
-
-        Settlement settlement = Settlement.builder()
-                .storeId(storeId)
-                .settlementDate(targetDate)
-                .orderCount(orders.size())
-                .supplyAmount(supplyAmount)
-                .taxAmount(taxAmount)
-                .totalSettlementAmount(totalAmount)
-                .totalOrderAmount(totalAmount)
-                .settlementAmount(totalAmount)
-                .commissionAmount(totalAmount.multiply(new BigDecimal("0.05")).setScale(0, RoundingMode.HALF_UP))
-                .status(SettlementStatus.PENDING) // 정산 상태도 PENDING
-                .pdfUrl(savedLocalPath)
-                .productId(0L)
-                .build();
+        eventPublisher.publishEvent(new SettlementPdfRequestedEvent(settlement.getId()));
+    }
 
-        settlementRepository.save(settlement);
+    /**
+     * PDF 생성 대기 중인 정산 조회 (이미 생성됐거나 실패 처리된 정산은 empty)
+     */
+    public Optional<Settlement> findPdfPendingSettlement(Long settlementId) {
+        return settlementRepository.findById(settlementId)
+                .filter(settlement -> settlement.getPdfStatus() == PdfStatus.PENDING);
+    }
+
+    public List<Settlement> findPdfPendingSettlements() {
+        return settlementRepository.findTop100ByPdfStatusOrderByIdAsc(PdfStatus.PENDING);
+    }
+
+    @Transactional
+    public void completePdf(Long settlementId, String pdfUrl) {
+        findPdfPendingSettlement(settlementId).ifPresent(settlement -> settlement.completePdf(pdfUrl));
+    }
+
+    @Transactional
+    public void failPdf(Long settlementId) {
+        findPdfPendingSettlement(settlementId).ifPresent(Settlement::failPdf);
     }
 
     /**
-     * [공통 로직] 특정 기간 내의 모든 배송완료 주문 아이템 수집 및 DTO 변환 (N+1 방지 버전)
+     * [공통 로직] 특정 기간 내 취소되지 않은 발주의 상품별 합계 (일자별 합계 테이블 집계)
      */
     private List<SettlementItemResponse> getSettlementItemsInPeriod(Long storeId, LocalDate start, LocalDate end) {
-        List<Order> orders = orderRepository.findAllByStoreIdAndStatusAndCreatedAtBetweenAndDeletedAtIsNull(
-                storeId,
-                com.spicy.backend.order.enums.Status.PENDING, // PENDING으로 수정
-                start.atStartOfDay(),
-                end.atTime(LocalTime.MAX));
-
-        if (orders.isEmpty()) return List.of();
-
-        List<Long> orderIds = orders.stream().map(Order::getId).toList();
-        List<OrderItem> allItems = orderItemRepository.findAllByOrderIdIn(orderIds);
-
-        return allItems.stream()
-                .map(item -> SettlementItemResponse.builder()
-                        .productId(item.getProductId())
-                        .productName(item.getProductName())
-                        .quantity(item.getQuantity().intValue())
-                        .unitPrice(item.getUnitPrice())
-                        .totalPrice(item.getUnitPrice().multiply(BigDecimal.valueOf(item.getQuantity())))
-                        .build())
+        return dailySalesRepository.sumByProduct(storeId, start, end).stream()
+                .map(SettlementItemResponse::of)
                 .toList();
     }
 
@@ -207,9 +162,7 @@ public class SettlementService {
      */
     private BigDecimal calculateMonthlyAccumulatedAmount(Long storeId, LocalDate date) {
         LocalDate firstDay = date.withDayOfMonth(1);
-        return settlementRepository.findByStoreIdAndSettlementDateBetween(storeId, firstDay, date).stream()
-                .map(Settlement::getTotalSettlementAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return settlementRepository.findSummary(storeId, firstDay, date).totalAmount();
     }
 
     /**
@@ -228,11 +181,9 @@ public class SettlementService {
      * 정산 포함 상세 주문 리스트 (팝업용)
      */
     public List<OrderResponse> getOrdersBySettlementDate(Long storeId, LocalDate date) {
-        List<Order> orders = orderRepository.findAllByStoreIdAndStatusAndCreatedAtBetweenAndDeletedAtIsNull(
+        return orderRepository.findOrderResponsesByStoreIdAndStatusAndCreatedAtBetween(
                 storeId, com.spicy.backend.order.enums.Status.DELIVERED,
                 date.atStartOfDay(), date.atTime(LocalTime.MAX));
-
-        return OrderResponse.from(orders);
     }
 
     /**
@@ -248,19 +199,24 @@ public class SettlementService {
     }
 
     /**
-     * 로컬 저장된 PDF 파일 로드
+     * 로컬 저장된 PDF 파일 정보 조회
      */
-    public Resource getPdfFileAsResource(Long settlementId) {
+    public StoredPdfFile getStoredPdfFile(Long settlementId) {
         Settlement settlement = settlementRepository.findById(settlementId)
                 .orElseThrow(() -> new BusinessException(SettlementErrorCode.SETTLEMENT_NOT_FOUND));
 
+        if (settlement.getPdfUrl() == null) {
+            throw new BusinessException(SettlementErrorCode.PDF_NOT_READY);
+        }
+
+        Path filePath = Paths.get(settlement.getPdfUrl()).toAbsolutePath().normalize();
         try {
-            Path filePath = Paths.get(settlement.getPdfUrl()).toAbsolutePath().normalize();
-            Resource resource = new UrlResource(filePath.toUri());
-            if (resource.exists()) return resource;
-            else throw new BusinessException(SettlementErrorCode.FILE_NOT_FOUND);
-        } catch (MalformedURLException e) {
-            throw new RuntimeException("올바르지 않은 파일 경로입니다.", e);
+            BasicFileAttributes attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+            // 지난달 이전 정산은 마감된 기간
+            boolean closedPeriod = YearMonth.from(settlement.getSettlementDate()).isBefore(YearMonth.now());
+            return new StoredPdfFile(filePath, attributes.size(), attributes.lastModifiedTime().toMillis(), closedPeriod);
+        } catch (IOException e) {
+            throw new BusinessException(SettlementErrorCode.FILE_NOT_FOUND);
         }
     }
 
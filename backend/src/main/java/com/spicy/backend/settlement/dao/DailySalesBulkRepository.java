@@ -0,0 +1,20 @@
+package com.spicy.backend.settlement.dao;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Optional;
+
+public interface DailySalesBulkRepository {
+
+    // 주문 상품을 (가맹점, 주문 일자, 상품)별로 합산해 증가
+    int addOrders(Collection<Long> orderIds);
+
+    // 아직 취소되지 않은 주문 상품만큼 감소 (주문 상품 취소 UPDATE 전에 호출)
+    int subtractOrders(Collection<Long> orderIds);
+
+    // 기간 내 합계를 주문/주문 상품에서 다시 집계 (백필, 여러 번 실행해도 같은 결과)
+    int rebuild(LocalDate start, LocalDate end);
+
+    // 가장 오래된 주문 일자 (주문이 없으면 empty)
+    Optional<LocalDate> findFirstOrderDate();
+}
@@ -0,0 +1,89 @@
+package com.spicy.backend.settlement.dao;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class DailySalesBulkRepositoryImpl implements DailySalesBulkRepository {
+
+    // 주문 상품을 한 번의 INSERT ... SELECT로 합산 (이미 있는 행은 증감)
+    // 상품명은 주문 상품의 주문 시점 상품명을 그대로 저장 (이미 있는 행은 처음 저장한 상품명 유지)
+    private static final String APPLY_ORDERS_SQL = """
+            INSERT INTO daily_store_product_sales (store_id, sales_date, product_id, product_name, quantity, amount,
+                                                   created_at, updated_at)
+            SELECT o.store_id, DATE(o.created_at), oi.product_id, MAX(oi.product_name),
+                   :sign * SUM(oi.quantity), :sign * SUM(oi.total_price), NOW(), NOW()
+            FROM order_item oi
+                     JOIN orders o ON o.id = oi.order_id
+            WHERE oi.order_id IN (:orderIds)
+              AND oi.status <> 'CANCELLED'
+            GROUP BY o.store_id, DATE(o.created_at), oi.product_id
+            ON DUPLICATE KEY UPDATE product_name = COALESCE(product_name, VALUES(product_name)),
+                                    quantity   = quantity + VALUES(quantity),
+                                    amount     = amount + VALUES(amount),
+                                    updated_at = NOW()
+            """;
+
+    private static final String REBUILD_SQL = """
+            INSERT INTO daily_store_product_sales (store_id, sales_date, product_id, product_name, quantity, amount,
+                                                   created_at, updated_at)
+            SELECT o.store_id, DATE(o.created_at), oi.product_id, MAX(oi.product_name),
+                   SUM(oi.quantity), SUM(oi.total_price), NOW(), NOW()
+            FROM orders o
+                     JOIN order_item oi ON oi.order_id = o.id
+            WHERE o.created_at >= :start
+              AND o.created_at < :endExclusive
+              AND o.status <> 'CANCELLED'
+              AND o.deleted_at IS NULL
+              AND oi.status <> 'CANCELLED'
+            GROUP BY o.store_id, DATE(o.created_at), oi.product_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Override
+    public int addOrders(Collection<Long> orderIds) {
+        return applyOrders(orderIds, 1);
+    }
+
+    @Override
+    public int subtractOrders(Collection<Long> orderIds) {
+        return applyOrders(orderIds, -1);
+    }
+
+    @Override
+    public int rebuild(LocalDate start, LocalDate end) {
+        jdbcTemplate.update("DELETE FROM daily_store_product_sales WHERE sales_date BETWEEN ? AND ?",
+                Date.valueOf(start), Date.valueOf(end));
+
+        return namedParameterJdbcTemplate.update(REBUILD_SQL, new MapSqlParameterSource()
+                .addValue("start", start.atStartOfDay())
+                .addValue("endExclusive", end.plusDays(1).atStartOfDay()));
+    }
+
+    @Override
+    public Optional<LocalDate> findFirstOrderDate() {
+        LocalDateTime first = jdbcTemplate.queryForObject(
+                "SELECT MIN(created_at) FROM orders WHERE deleted_at IS NULL", LocalDateTime.class);
+        return Optional.ofNullable(first).map(LocalDateTime::toLocalDate);
+    }
+
+    private int applyOrders(Collection<Long> orderIds, int sign) {
+        if (orderIds.isEmpty()) return 0;
+
+        return namedParameterJdbcTemplate.update(APPLY_ORDERS_SQL, new MapSqlParameterSource()
+                .addValue("sign", sign)
+                .addValue("orderIds", orderIds));
+    }
+}
@@ -0,0 +1,32 @@
+package com.spicy.backend.settlement.dao;
+
+import com.spicy.backend.settlement.domain.DailyStoreProductSales;
+import com.spicy.backend.settlement.dto.response.ProductSalesInfo;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DailySalesRepository extends JpaRepository<DailyStoreProductSales, Long>, DailySalesBulkRepository {
+
+    // 하루치 (가맹점, 상품)별 합계 (일괄 정산용)
+    List<DailyStoreProductSales> findAllBySalesDateAndQuantityGreaterThan(LocalDate salesDate, long quantity);
+
+    // 기간 내 상품별 합계 (전부 취소되어 0이 된 상품은 제외, 상품명은 주문 시점 스냅샷)
+    @Query("""
+                select new com.spicy.backend.settlement.dto.response.ProductSalesInfo(
+                    s.productId, max(s.productName), sum(s.quantity), sum(s.amount))
+                from DailyStoreProductSales s
+                where s.storeId = :storeId
+                  and s.salesDate between :start and :end
+                group by s.productId
+                having sum(s.quantity) > 0
+                order by s.productId
+            """)
+    List<ProductSalesInfo> sumByProduct(
+            @Param("storeId") Long storeId,
+            @Param("start") LocalDate start,
+            @Param("end") LocalDate end);
+}
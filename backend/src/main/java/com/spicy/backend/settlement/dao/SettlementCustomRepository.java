@@ -1,6 +1,8 @@
 package com.spicy.backend.settlement.dao;
 
 import com.spicy.backend.settlement.domain.Settlement;
+import com.spicy.backend.settlement.dto.response.SettlementSummary;
+import com.spicy.backend.settlement.dto.response.StoreDailyTotal;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -9,4 +11,10 @@ public interface SettlementCustomRepository {
     // Bulk Insert를 위한 커스텀 인터페이스
     void bulkInsertSettlements(List<Settlement> settlements);
 
+    // 기간 내 금액 합계 + 마지막 정산의 상태/지급일을 한 번의 쿼리로 조회
+    SettlementSummary findSummary(Long storeId, LocalDate start, LocalDate end);
+
+    // 해당 일자에 아직 정산되지 않은 가맹점별 발주 건수/금액 (일자별 상품 합계 기준, 한 번의 GROUP BY)
+    List<StoreDailyTotal> findUnsettledStoreTotals(LocalDate date);
+
 }
\ No newline at end of file
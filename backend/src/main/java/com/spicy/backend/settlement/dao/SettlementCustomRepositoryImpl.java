@@ -1,15 +1,57 @@
 package com.spicy.backend.settlement.dao;
 
 import com.spicy.backend.settlement.domain.Settlement;
+import com.spicy.backend.settlement.dto.response.SettlementSummary;
+import com.spicy.backend.settlement.dto.response.StoreDailyTotal;
+import com.spicy.backend.settlement.enums.SettlementStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Date;
+import java.time.LocalDate;
 import java.util.List;
 
 @Repository
 @RequiredArgsConstructor
 public class SettlementCustomRepositoryImpl implements SettlementCustomRepository {
+    // 합계와 마지막 정산일을 집계한 뒤 (store_id, settlement_date) 유니크 키로 마지막 정산 한 건만 조인
+    private static final String SUMMARY_SQL = """
+            SELECT t.total_amount, t.supply_amount, t.tax_amount, l.status, l.payout_date
+            FROM (SELECT COALESCE(SUM(total_settlement_amount), 0) AS total_amount,
+                         COALESCE(SUM(supply_amount), 0)           AS supply_amount,
+                         COALESCE(SUM(tax_amount), 0)              AS tax_amount,
+                         MAX(settlement_date)                      AS last_date
+                  FROM settlement
+                  WHERE store_id = ?
+                    AND settlement_date BETWEEN ? AND ?) t
+                     LEFT JOIN settlement l ON l.store_id = ? AND l.settlement_date = t.last_date
+            """;
+
+    // 일자별 상품 합계를 가맹점별로 집계 (단건 정산과 같은 출처, 합계 행이 없는 가맹점은 대상 아님)
+    // 발주 건수는 단건 정산과 같이 취소되지 않은 주문 수, 이미 정산 행이 있는 가맹점은 제외 -> 재실행 시 남은 가맹점만
+    private static final String UNSETTLED_STORE_TOTALS_SQL = """
+            SELECT d.store_id,
+                   (SELECT COUNT(*)
+                    FROM orders o
+                    WHERE o.store_id = d.store_id
+                      AND o.created_at >= ?
+                      AND o.created_at < ?
+                      AND o.status <> 'CANCELLED'
+                      AND o.deleted_at IS NULL) AS order_count,
+                   SUM(d.amount)                AS total_amount
+            FROM daily_store_product_sales d
+            WHERE d.sales_date = ?
+              AND d.quantity > 0
+              AND NOT EXISTS (SELECT 1
+                              FROM settlement s
+                              WHERE s.store_id = d.store_id
+                                AND s.settlement_date = d.sales_date)
+            GROUP BY d.store_id
+            HAVING SUM(d.amount) > 0
+            ORDER BY d.store_id
+            """;
+
     private final JdbcTemplate jdbcTemplate;
 
     // SettlementCustomRepositoryImpl.java
@@ -21,8 +63,8 @@ public class SettlementCustomRepositoryImpl implements SettlementCustomRepositor
         // 1. SQL 문에 settlement_amount, commission_amount, total_order_amount를 반드시 포함해야 합니다.
         String sql = "INSERT INTO settlement (store_id, settlement_date, order_count, supply_amount, " +
                 "tax_amount, total_settlement_amount, payout_date, status, product_id, pdf_url, " +
-                "settlement_amount, commission_amount, total_order_amount, created_at, updated_at) " +
-                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, NOW(), NOW())";
+                "settlement_amount, commission_amount, total_order_amount, pdf_status, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, NOW(), NOW())";
 
         jdbcTemplate.batchUpdate(sql, settlements, 1000, (ps, settlement) -> {
             ps.setObject(1, settlement.getStoreId());
@@ -39,6 +81,30 @@ public class SettlementCustomRepositoryImpl implements SettlementCustomRepositor
             ps.setBigDecimal(11, settlement.getSettlementAmount());
             ps.setBigDecimal(12, settlement.getCommissionAmount());
             ps.setBigDecimal(13, settlement.getTotalOrderAmount());
+            ps.setString(14, settlement.getPdfStatus() != null ? settlement.getPdfStatus().name() : null);
         });
     }
-}
\ No newline at end of file
+
+    @Override
+    public SettlementSummary findSummary(Long storeId, LocalDate start, LocalDate end) {
+        return jdbcTemplate.queryForObject(SUMMARY_SQL, (rs, rowNum) -> {
+            String status = rs.getString("status");
+            Date payoutDate = rs.getDate("payout_date");
+            return new SettlementSummary(
+                    rs.getBigDecimal("total_amount"),
+                    rs.getBigDecimal("supply_amount"),
+                    rs.getBigDecimal("tax_amount"),
+                    status != null ? SettlementStatus.valueOf(status) : null,
+                    payoutDate != null ? payoutDate.toLocalDate() : null);
+        }, storeId, Date.valueOf(start), Date.valueOf(end), storeId);
+    }
+
+    @Override
+    public List<StoreDailyTotal> findUnsettledStoreTotals(LocalDate date) {
+        return jdbcTemplate.query(UNSETTLED_STORE_TOTALS_SQL, (rs, rowNum) -> new StoreDailyTotal(
+                        rs.getLong("store_id"),
+                        rs.getInt("order_count"),
+                        rs.getBigDecimal("total_amount")),
+                date.atStartOfDay(), date.plusDays(1).atStartOfDay(), Date.valueOf(date));
+    }
+}
@@ -1,6 +1,7 @@
 package com.spicy.backend.settlement.dao;
 
 import com.spicy.backend.settlement.domain.Settlement;
+import com.spicy.backend.settlement.enums.PdfStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -17,6 +18,9 @@ public interface SettlementRepository extends JpaRepository<Settlement, Long>, S
 
     List<Settlement> findAllByStoreIdOrderBySettlementDateDesc(Long storeId);
 
+    // PDF 생성 대기 중인 정산 (오래된 순)
+    List<Settlement> findTop100ByPdfStatusOrderByIdAsc(PdfStatus pdfStatus);
+
     // productId가 null일 경우 가맹점 전체 수량을 집계하도록 변경
     @Query("""
             SELECT COALESCE(SUM(s.orderCount), 0) FROM Settlement s\s
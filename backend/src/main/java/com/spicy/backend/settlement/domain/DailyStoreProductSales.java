@@ -0,0 +1,63 @@
+package com.spicy.backend.settlement.domain;
+
+import com.spicy.backend.global.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// 가맹점 + 일자 + 상품 단위 발주 합계 (주문 생성/취소 시 증분 갱신, 정산은 주문 상품 대신 이 테이블을 집계)
+@Builder
+@Entity
+@Getter
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "daily_store_product_sales",
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "uk_daily_sales_store_date_product",
+                        columnNames = {"store_id", "sales_date", "product_id"}
+                )
+        }
+)
+public class DailyStoreProductSales extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    //가맹점ID
+    @Column(name = "store_id", nullable = false)
+    private Long storeId;
+
+    //주문 일자
+    @Column(name = "sales_date", nullable = false)
+    private LocalDate salesDate;
+
+    //상품ID
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    //상품명 (주문 시점 주문 상품의 상품명, 상품명이 바뀌거나 상품이 삭제돼도 정산 내역은 그대로)
+    @Column(name = "product_name")
+    private String productName;
+
+    //취소되지 않은 주문 수량 합계
+    @Column(nullable = false)
+    private long quantity;
+
+    //취소되지 않은 주문 금액 합계 (단가 * 수량)
+    @Column(nullable = false, precision = 15, scale = 2)
+    private BigDecimal amount;
+}
@@ -1,6 +1,7 @@
 package com.spicy.backend.settlement.domain;
 
 import com.spicy.backend.global.entity.BaseEntity;
+import com.spicy.backend.settlement.enums.PdfStatus;
 import com.spicy.backend.settlement.enums.SettlementStatus;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -21,6 +22,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDate;
 
 @Entity
@@ -91,11 +93,51 @@ public class Settlement extends BaseEntity {
     @Column(length = 500)
     private String pdfUrl;
 
+    // PDF 영수증 생성 상태 (PENDING, READY, FAILED / 이전에 저장된 행은 null = 생성 완료)
+    // 값이 늘어나도 ALTER 없이 저장되도록 MariaDB 기본 enum 타입 대신 varchar로 생성
+    @Enumerated(EnumType.STRING)
+    @Column(name = "pdf_status", length = 20, columnDefinition = "varchar(20)")
+    private PdfStatus pdfStatus;
+
+    // 일별 정산 생성 (공급가액 = 총액 / 1.1, 부가세 = 총액 - 공급가액, 수수료 5%)
+    // PDF 경로가 없으면 PDF 상태를 PENDING으로 저장하고 렌더링 워커가 나중에 채움 (정산 상태는 항상 PENDING)
+    public static Settlement daily(Long storeId, LocalDate settlementDate, int orderCount,
+                                   BigDecimal totalAmount, String pdfUrl) {
+        BigDecimal supplyAmount = totalAmount.divide(new BigDecimal("1.1"), 0, RoundingMode.HALF_UP);
+
+        return Settlement.builder()
+                .storeId(storeId)
+                .settlementDate(settlementDate)
+                .orderCount(orderCount)
+                .supplyAmount(supplyAmount)
+                .taxAmount(totalAmount.subtract(supplyAmount))
+                .totalSettlementAmount(totalAmount)
+                .totalOrderAmount(totalAmount)
+                .settlementAmount(totalAmount)
+                .commissionAmount(totalAmount.multiply(new BigDecimal("0.05")).setScale(0, RoundingMode.HALF_UP))
+                .status(SettlementStatus.PENDING)
+                .pdfStatus(pdfUrl != null ? PdfStatus.READY : PdfStatus.PENDING)
+                .pdfUrl(pdfUrl)
+                .productId(0L)
+                .build();
+    }
+
     // PDF URL 업데이트를 위한 메서드
     public void updatePdfUrl(String pdfUrl) {
         this.pdfUrl = pdfUrl;
     }
 
+    // PDF 생성 완료
+    public void completePdf(String pdfUrl) {
+        this.pdfUrl = pdfUrl;
+        this.pdfStatus = PdfStatus.READY;
+    }
+
+    // 재시도 한도를 넘겨 PDF 생성 실패 (정산 상태는 그대로)
+    public void failPdf() {
+        this.pdfStatus = PdfStatus.FAILED;
+    }
+
     @Column(name = "commission_amount", nullable = false, precision = 15, scale = 2) // DB 컬럼명에 맞춤
     @NotNull
     @DecimalMin(value = "0.0", inclusive = false)
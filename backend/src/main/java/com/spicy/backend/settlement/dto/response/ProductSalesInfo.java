@@ -0,0 +1,12 @@
+package com.spicy.backend.settlement.dto.response;
+
+import java.math.BigDecimal;
+
+// 기간 내 상품별 발주 합계 (daily_store_product_sales 집계 결과)
+public record ProductSalesInfo(
+        Long productId,
+        String productName,
+        Long quantity,
+        BigDecimal amount
+) {
+}
@@ -0,0 +1,27 @@
+package com.spicy.backend.settlement.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+
+@Schema(description = "일괄 정산 실행 결과")
+public record SettlementBatchResult(
+        @Schema(description = "정산 일자", example = "2026-01-21")
+        LocalDate date,
+
+        @Schema(description = "정산 대상 가맹점 수 (이미 정산된 가맹점 제외)", example = "120")
+        int targetStoreCount,
+
+        @Schema(description = "정산 완료 가맹점 수", example = "118")
+        int settledStoreCount,
+
+        @Schema(description = "실패 가맹점 수 (다시 실행하면 재처리)", example = "2")
+        int failedStoreCount,
+
+        @Schema(description = "소요 시간 (ms)", example = "5300")
+        long elapsedMillis,
+
+        @Schema(description = "처리량 (가맹점/초)", example = "22.3")
+        double storesPerSecond
+) {
+}
@@ -2,6 +2,7 @@ package com.spicy.backend.settlement.dto.response;
 
 import lombok.Builder;
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 
 @Builder
 public record SettlementItemResponse(
@@ -10,4 +11,15 @@ public record SettlementItemResponse(
         Integer quantity,
         BigDecimal unitPrice,
         BigDecimal totalPrice
-) {}
\ No newline at end of file
+) {
+    // 상품별 합계 -> 품목 (기간 중 단가가 바뀌었으면 평균 단가)
+    public static SettlementItemResponse of(ProductSalesInfo sale) {
+        return SettlementItemResponse.builder()
+                .productId(sale.productId())
+                .productName(sale.productName())
+                .quantity(Math.toIntExact(sale.quantity()))
+                .unitPrice(sale.amount().divide(BigDecimal.valueOf(sale.quantity()), 2, RoundingMode.HALF_UP))
+                .totalPrice(sale.amount())
+                .build();
+    }
+}
@@ -0,0 +1,16 @@
+package com.spicy.backend.settlement.dto.response;
+
+import com.spicy.backend.settlement.enums.SettlementStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// 기간 내 정산 합계와 마지막 정산일의 상태/지급일 (정산이 없으면 금액 0, 상태/지급일 null)
+public record SettlementSummary(
+        BigDecimal totalAmount,
+        BigDecimal supplyAmount,
+        BigDecimal taxAmount,
+        SettlementStatus status,
+        LocalDate payoutDate
+) {
+}
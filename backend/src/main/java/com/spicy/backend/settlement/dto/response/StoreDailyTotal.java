@@ -0,0 +1,11 @@
+package com.spicy.backend.settlement.dto.response;
+
+import java.math.BigDecimal;
+
+// 일괄 정산 대상 가맹점의 하루 발주 합계 (금액은 일자별 상품 합계 기준)
+public record StoreDailyTotal(
+        Long storeId,
+        int orderCount,
+        BigDecimal totalAmount
+) {
+}
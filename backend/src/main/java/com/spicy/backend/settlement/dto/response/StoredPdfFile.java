@@ -0,0 +1,21 @@
+package com.spicy.backend.settlement.dto.response;
+
+import java.nio.file.Path;
+
+// 로컬에 저장된 정산 PDF 파일 정보 (closedPeriod: 지난달 이전 정산이라 내용이 더 바뀌지 않음)
+public record StoredPdfFile(
+        Path path,
+        long size,
+        long lastModifiedMillis,
+        boolean closedPeriod
+) {
+
+    // 파일 크기 + 수정 시각 기반 강한 ETag (영수증 파일은 다시 쓰지 않고 새 파일로 저장)
+    public String etag() {
+        return "\"" + Long.toHexString(size) + "-" + Long.toHexString(lastModifiedMillis) + "\"";
+    }
+
+    public String fileName() {
+        return path.getFileName().toString();
+    }
+}
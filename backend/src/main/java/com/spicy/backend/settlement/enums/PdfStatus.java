@@ -0,0 +1,21 @@
+package com.spicy.backend.settlement.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 정산 PDF 영수증 생성 상태 (정산 상태와 별개로 관리)
+@Getter
+@RequiredArgsConstructor
+public enum PdfStatus {
+    // 정산 행은 저장됐고 PDF 영수증은 생성 대기 중
+    PENDING("PENDING", "영수증 생성 중"),
+
+    // PDF 영수증 저장 완료
+    READY("READY", "영수증 생성 완료"),
+
+    // 재시도 한도를 넘겨 PDF 영수증 생성 실패 (정산 자체는 유효)
+    FAILED("FAILED", "영수증 생성 실패");
+
+    private final String key;
+    private final String value;
+}
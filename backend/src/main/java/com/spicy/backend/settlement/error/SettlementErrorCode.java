@@ -23,7 +23,13 @@ public enum SettlementErrorCode implements BaseErrorCode { // 기존 프로젝
 
     // 로컬 파일 시스템 관련 에러
     FILE_STORAGE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "파일 시스템에 영수증을 저장하지 못했습니다.", "S007"),
-    FILE_NOT_FOUND(HttpStatus.NOT_FOUND, "서버에서 해당 영수증 파일을 찾을 수 없습니다.", "S008");
+    FILE_NOT_FOUND(HttpStatus.NOT_FOUND, "서버에서 해당 영수증 파일을 찾을 수 없습니다.", "S008"),
+
+    // 일괄 정산 관련 에러
+    SETTLEMENT_BATCH_RUNNING(HttpStatus.CONFLICT, "일괄 정산이 이미 실행 중입니다.", "S009"),
+
+    // 비동기 PDF 생성 관련 에러
+    PDF_NOT_READY(HttpStatus.CONFLICT, "영수증 PDF가 아직 생성되지 않았습니다. 잠시 후 다시 시도해 주세요.", "S010");
 
     private final HttpStatus status;
     private final String message;
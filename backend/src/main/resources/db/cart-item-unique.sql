@@ -0,0 +1,35 @@
+-- 장바구니 (user_id, store_id, product_id) 유니크 인덱스 추가 (MariaDB)
+-- 기존에 같은 상품이 여러 행으로 담긴 경우가 있으므로 배포 전에 한 번 수동으로 실행
+
+-- 1. 중복 행의 수량을 가장 작은 ID 행으로 합침 (삭제 처리되지 않은 행 기준)
+UPDATE cart_item c
+    JOIN (SELECT user_id, store_id, product_id, MIN(id) AS keep_id, SUM(quantity) AS total_quantity
+          FROM cart_item
+          WHERE deleted_at IS NULL
+          GROUP BY user_id, store_id, product_id
+          HAVING COUNT(*) > 1) d ON d.keep_id = c.id
+SET c.quantity = d.total_quantity;
+
+-- 2. 합쳐진 나머지 행 삭제
+DELETE c
+FROM cart_item c
+         JOIN (SELECT user_id, store_id, product_id, MIN(id) AS keep_id
+               FROM cart_item
+               WHERE deleted_at IS NULL
+               GROUP BY user_id, store_id, product_id
+               HAVING COUNT(*) > 1) d
+              ON d.user_id = c.user_id AND d.store_id = c.store_id AND d.product_id = c.product_id
+WHERE c.deleted_at IS NULL
+  AND c.id <> d.keep_id;
+
+-- 3. 주문으로 삭제 처리된 행은 같은 상품의 활성 행이 있거나 중복이면 정리 (다시 담을 때 UPSERT가 되살림)
+DELETE c
+FROM cart_item c
+         JOIN cart_item o
+              ON o.user_id = c.user_id AND o.store_id = c.store_id AND o.product_id = c.product_id
+                  AND (o.deleted_at IS NULL OR o.id > c.id)
+WHERE c.deleted_at IS NOT NULL;
+
+-- 4. 유니크 인덱스 추가
+ALTER TABLE cart_item
+    ADD CONSTRAINT uk_cart_item_user_store_product UNIQUE (user_id, store_id, product_id);
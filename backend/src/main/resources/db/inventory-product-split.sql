@@ -0,0 +1,24 @@
+-- 재고 로트(inventory)에서 상품 마스터 정보(이름/가격/설명) 분리
+-- ddl-auto: update 는 컬럼을 삭제하지 않으므로 배포 전에 한 번 수동으로 실행 (MariaDB)
+
+-- 1. 상품 마스터(product)에 없는 상품을 참조하는 로트 확인 (결과가 없어야 함)
+SELECT i.product_id, MIN(i.product_name) AS product_name, COUNT(*) AS lot_count
+FROM inventory i
+         LEFT JOIN product p ON p.product_id = i.product_id
+WHERE p.product_id IS NULL
+GROUP BY i.product_id;
+
+-- 2. 로트 테이블의 중복 상품 정보 컬럼 삭제
+ALTER TABLE inventory
+    DROP COLUMN product_name,
+    DROP COLUMN price,
+    DROP COLUMN description;
+
+-- 3. 재고 합계 테이블의 중복 상품 정보 컬럼 삭제
+ALTER TABLE inventory_stock
+    DROP COLUMN product_name,
+    DROP COLUMN price;
+
+-- 4. 상품 + 상태 + 유통기한 순 출고 조회용 인덱스
+CREATE INDEX IF NOT EXISTS idx_inventory_product_status_expiration
+    ON inventory (product_id, status, expiration_date);
@@ -0,0 +1,13 @@
+-- 배송 완료(CONSUMED) 예약의 로트 차감 반영 시각 컬럼 추가 (MariaDB)
+-- 로트/재고 합계 차감은 lot_applied_at이 비어 있는 CONSUMED 예약을 기준으로 반영하므로
+-- inventory.reservation.enabled를 켠 채로 배포하기 전에 한 번 수동으로 실행 (실행하지 않으면 이전 배송 완료분이 다시 차감됨)
+
+-- 1. 반영 시각 컬럼 추가
+ALTER TABLE inventory_reservation
+    ADD COLUMN IF NOT EXISTS lot_applied_at DATETIME(6) NULL;
+
+-- 2. 이전 방식으로 이미 차감된 배송 완료 예약은 반영된 것으로 표시
+UPDATE inventory_reservation
+SET lot_applied_at = updated_at
+WHERE status = 'CONSUMED'
+  AND lot_applied_at IS NULL;
@@ -0,0 +1,85 @@
+package com.spicy.backend.inventory.application;
+
+import com.spicy.backend.global.error.exception.BusinessException;
+import com.spicy.backend.inventory.dto.request.InventoryOutboundRequest;
+import com.spicy.backend.inventory.error.InventoryErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class InventoryOutboundServiceTests {
+
+    @Mock
+    private InventoryService inventoryService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private InventoryOutboundRequest request;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        request = new InventoryOutboundRequest("사이다", 2, 1);
+    }
+
+    @Test
+    @DisplayName("비관적 모드 - 기존 잠금 출고 호출")
+    void outbound_Pessimistic() {
+        // given
+        InventoryOutboundService service = new InventoryOutboundService(
+                inventoryService, meterRegistry, "pessimistic", 3, 0, 0);
+
+        // when
+        service.outbound(request);
+
+        // then
+        verify(inventoryService, times(1)).outbound(request);
+        verify(inventoryService, never()).outboundOptimistic(request);
+    }
+
+    @Test
+    @DisplayName("낙관적 모드 - 버전 충돌 시 재시도 후 성공")
+    void outbound_Optimistic_RetryThenSuccess() {
+        // given
+        InventoryOutboundService service = new InventoryOutboundService(
+                inventoryService, meterRegistry, "optimistic", 3, 0, 0);
+        given(inventoryService.outboundOptimistic(request))
+                .willThrow(new ObjectOptimisticLockingFailureException("Inventory", 1L))
+                .willReturn(null);
+
+        // when
+        service.outbound(request);
+
+        // then
+        verify(inventoryService, times(2)).outboundOptimistic(request);
+        assertEquals(1.0, meterRegistry.counter("inventory.outbound.optimistic.retries").count());
+    }
+
+    @Test
+    @DisplayName("낙관적 모드 - 재시도 한도 초과 시 OUTBOUND_CONFLICT")
+    void outbound_Optimistic_GiveUp() {
+        // given
+        InventoryOutboundService service = new InventoryOutboundService(
+                inventoryService, meterRegistry, "optimistic", 2, 0, 0);
+        given(inventoryService.outboundOptimistic(request))
+                .willThrow(new ObjectOptimisticLockingFailureException("Inventory", 1L));
+
+        // when & then
+        BusinessException exception = assertThrows(BusinessException.class, () -> service.outbound(request));
+        assertEquals(InventoryErrorCode.OUTBOUND_CONFLICT, exception.getErrorCode());
+        verify(inventoryService, times(2)).outboundOptimistic(request);
+        assertEquals(1.0, meterRegistry.counter("inventory.outbound.optimistic.failures").count());
+    }
+}
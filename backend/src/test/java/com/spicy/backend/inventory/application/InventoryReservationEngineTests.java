@@ -0,0 +1,231 @@
+package com.spicy.backend.inventory.application;
+
+import com.spicy.backend.global.error.exception.BusinessException;
+import com.spicy.backend.inventory.domain.Inventory;
+import com.spicy.backend.inventory.domain.InventoryReservation;
+import com.spicy.backend.inventory.domain.LotStatus;
+import com.spicy.backend.inventory.domain.ReservationStatus;
+import com.spicy.backend.inventory.dto.response.ReservedLot;
+import com.spicy.backend.inventory.error.InventoryErrorCode;
+import com.spicy.backend.inventory.storage.InventoryRepository;
+import com.spicy.backend.inventory.storage.InventoryReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class InventoryReservationEngineTests {
+
+    private static final Long PRODUCT_ID = 1L;
+
+    @Mock
+    private InventoryRepository inventoryRepository;
+
+    @Mock
+    private InventoryReservationRepository reservationRepository;
+
+    @Mock
+    private InventoryReservationWriter reservationWriter;
+
+    private InventoryReservationEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new InventoryReservationEngine(inventoryRepository, reservationRepository, reservationWriter, true, 8, 1000);
+    }
+
+    @Test
+    @DisplayName("유통기한 빠른 로트부터 예약")
+    void reserve_Fefo() {
+        // given
+        LocalDate today = LocalDate.now();
+        loadLots(List.of(
+                lot(11L, 5, today.plusDays(30)),
+                lot(10L, 3, today.plusDays(10))), List.of());
+
+        // when
+        List<ReservedLot> reserved = engine.reserve(100L, Map.of(PRODUCT_ID, 4));
+
+        // then
+        assertThat(reserved).containsExactly(
+                new ReservedLot(100L, PRODUCT_ID, 10L, 3),
+                new ReservedLot(100L, PRODUCT_ID, 11L, 1));
+        assertEquals(3, engine.heldQuantity(10L));
+        assertEquals(1, engine.heldQuantity(11L));
+        // 예약 내역은 호출한 트랜잭션 안에서 바로 저장
+        verify(reservationRepository).bulkInsertReservations(reserved);
+    }
+
+    @Test
+    @DisplayName("재고 부족 시 예약하지 않고 OUT_OF_STOCK")
+    void reserve_OutOfStock() {
+        // given
+        loadLots(List.of(lot(10L, 3, LocalDate.now().plusDays(10))), List.of());
+
+        // when & then
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> engine.reserve(100L, Map.of(PRODUCT_ID, 4)));
+        assertEquals(InventoryErrorCode.OUT_OF_STOCK, exception.getErrorCode());
+        assertEquals(0, engine.heldQuantity(10L));
+        verify(reservationRepository, never()).bulkInsertReservations(anyList());
+    }
+
+    @Test
+    @DisplayName("유통기한이 지난 로트는 예약하지 않음")
+    void reserve_SkipExpired() {
+        // given
+        loadLots(List.of(
+                lot(10L, 5, LocalDate.now().minusDays(1)),
+                lot(11L, 5, LocalDate.now().plusDays(1))), List.of());
+
+        // when
+        List<ReservedLot> reserved = engine.reserve(100L, Map.of(PRODUCT_ID, 2));
+
+        // then
+        assertThat(reserved).containsExactly(new ReservedLot(100L, PRODUCT_ID, 11L, 2));
+    }
+
+    @Test
+    @DisplayName("주문 취소 시 예약 해제를 바로 기록하고 예약 수량 반환")
+    void release() {
+        // given
+        loadLots(List.of(lot(10L, 3, LocalDate.now().plusDays(10))), List.of());
+        engine.reserve(100L, Map.of(PRODUCT_ID, 3));
+
+        // when
+        engine.release(List.of(100L));
+
+        // then
+        assertEquals(0, engine.heldQuantity(10L));
+        verify(reservationRepository).updateStatusByOrderIds(
+                List.of(100L), ReservationStatus.RESERVED, ReservationStatus.RELEASED);
+    }
+
+    @Test
+    @DisplayName("도착 처리는 CONSUMED로 기록하고 차감 반영 후 로트 수량 감소")
+    void consume() {
+        // given
+        loadLots(List.of(lot(10L, 5, LocalDate.now().plusDays(10))), List.of());
+        engine.reserve(100L, Map.of(PRODUCT_ID, 3));
+
+        // when
+        engine.consume(List.of(100L));
+
+        // then 차감 반영 전에는 예약 수량 유지
+        verify(reservationRepository).updateStatusByOrderIds(
+                List.of(100L), ReservationStatus.RESERVED, ReservationStatus.CONSUMED);
+        assertEquals(3, engine.heldQuantity(10L));
+
+        // when 차감 반영
+        given(reservationWriter.applyConsumed(1000)).willReturn(List.of(new ReservedLot(100L, PRODUCT_ID, 10L, 3)));
+        int applied = engine.flush();
+
+        // then
+        assertEquals(1, applied);
+        assertEquals(0, engine.heldQuantity(10L));
+        // 남은 2개만 예약 가능
+        assertThrows(BusinessException.class, () -> engine.reserve(101L, Map.of(PRODUCT_ID, 3)));
+        assertThat(engine.reserve(102L, Map.of(PRODUCT_ID, 2))).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("차감 반영 실패 시 메모리 수량은 그대로 두고 다음 주기에 재시도")
+    void flush_Retry() {
+        // given
+        loadLots(List.of(lot(10L, 5, LocalDate.now().plusDays(10))), List.of());
+        engine.reserve(100L, Map.of(PRODUCT_ID, 3));
+        engine.consume(List.of(100L));
+        given(reservationWriter.applyConsumed(1000))
+                .willThrow(new IllegalStateException("db down"))
+                .willReturn(List.of(new ReservedLot(100L, PRODUCT_ID, 10L, 3)));
+
+        // when
+        int first = engine.flush();
+        int heldAfterFailure = engine.heldQuantity(10L);
+        int second = engine.flush();
+
+        // then
+        assertEquals(0, first);
+        assertEquals(3, heldAfterFailure);
+        assertEquals(1, second);
+        assertEquals(0, engine.heldQuantity(10L));
+    }
+
+    @Test
+    @DisplayName("서버 시작 시 미처리 예약 복원")
+    void rebuild_RestoresOpenReservations() {
+        // given
+        InventoryReservation open = InventoryReservation.builder()
+                .orderId(100L)
+                .productId(PRODUCT_ID)
+                .inventoryId(10L)
+                .quantity(4)
+                .status(ReservationStatus.RESERVED)
+                .build();
+        loadLots(List.of(lot(10L, 5, LocalDate.now().plusDays(10))), List.of(open));
+
+        // then
+        assertEquals(4, engine.heldQuantity(10L));
+        assertThrows(BusinessException.class, () -> engine.reserve(101L, Map.of(PRODUCT_ID, 2)));
+    }
+
+    @Test
+    @DisplayName("서버 시작 시 차감 반영 전 배송 완료분도 로트에서 빼 둠")
+    void rebuild_HoldsUnappliedConsumptions() {
+        // given 배송 완료 기록 후 차감 반영 전에 서버가 내려간 경우
+        InventoryReservation consumed = InventoryReservation.builder()
+                .orderId(100L)
+                .productId(PRODUCT_ID)
+                .inventoryId(10L)
+                .quantity(3)
+                .status(ReservationStatus.CONSUMED)
+                .build();
+        given(inventoryRepository.findAllByStatus(LotStatus.ACTIVE))
+                .willReturn(List.of(lot(10L, 5, LocalDate.now().plusDays(10))));
+        given(reservationRepository.findAllByStatus(ReservationStatus.RESERVED)).willReturn(List.of());
+        given(reservationRepository.findAllByStatusAndLotAppliedAtIsNull(ReservationStatus.CONSUMED))
+                .willReturn(List.of(consumed));
+
+        // when
+        engine.rebuild();
+
+        // then
+        assertEquals(3, engine.heldQuantity(10L));
+        assertThrows(BusinessException.class, () -> engine.reserve(101L, Map.of(PRODUCT_ID, 3)));
+    }
+
+    private void loadLots(List<Inventory> lots, List<InventoryReservation> reservations) {
+        given(inventoryRepository.findAllByStatus(LotStatus.ACTIVE)).willReturn(lots);
+        given(reservationRepository.findAllByStatus(ReservationStatus.RESERVED)).willReturn(reservations);
+        given(reservationRepository.findAllByStatusAndLotAppliedAtIsNull(ReservationStatus.CONSUMED)).willReturn(List.of());
+        engine.rebuild();
+    }
+
+    private Inventory lot(Long id, int quantity, LocalDate expirationDate) {
+        Inventory inventory = Inventory.builder()
+                .productId(PRODUCT_ID)
+                .quantity(quantity)
+                .expirationDate(expirationDate)
+                .status(LotStatus.ACTIVE)
+                .productCode("CODE-" + id)
+                .build();
+        ReflectionTestUtils.setField(inventory, "id", id);
+        return inventory;
+    }
+}
@@ -1,16 +1,25 @@
 package com.spicy.backend.inventory.application;
 
+import com.spicy.backend.global.error.exception.BusinessException;
 import com.spicy.backend.inventory.domain.Inventory;
+import com.spicy.backend.inventory.domain.InventoryStock;
 import com.spicy.backend.inventory.domain.LotStatus;
 import com.spicy.backend.inventory.domain.MinimumProduct;
+import com.spicy.backend.inventory.dto.request.InventoryBatchOutboundRequest;
 import com.spicy.backend.inventory.dto.request.InventoryOutboundRequest;
 import com.spicy.backend.inventory.dto.request.InventoryRequest;
-import com.spicy.backend.inventory.dto.response.InventoryLotResponse;
-import com.spicy.backend.inventory.dto.response.ProductBaseInfo;
+import com.spicy.backend.inventory.dto.response.InventoryBatchOutboundResponse;
+import com.spicy.backend.inventory.dto.response.LotAllocationResponse;
+import com.spicy.backend.inventory.dto.response.ProductQuantityInfo;
 import com.spicy.backend.inventory.dto.response.ProductResponse;
 import com.spicy.backend.inventory.dto.response.ProductSummaryResponse;
+import com.spicy.backend.inventory.error.InventoryErrorCode;
+import com.spicy.backend.inventory.search.ProductNameIndex;
 import com.spicy.backend.inventory.storage.InventoryRepository;
+import com.spicy.backend.inventory.storage.InventoryStockRepository;
 import com.spicy.backend.inventory.storage.MinimumProductRepository;
+import com.spicy.backend.order.application.ProductCatalog;
+import com.spicy.backend.order.dto.response.ProductInfo;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,15 +28,20 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,6 +51,18 @@ class InventoryServiceTests {
 
         @Mock
         private MinimumProductRepository minimumProductRepository;
+
+        @Mock
+        private InventoryStockRepository inventoryStockRepository;
+
+        @Mock
+        private ProductNameIndex productNameIndex;
+
+        @Mock
+        private ProductCatalog productCatalog;
+
+        @Mock
+        private InventoryReservationEngine inventoryReservationEngine;
         @Spy
         @InjectMocks
         private InventoryService inventoryService;
@@ -47,19 +73,11 @@ class InventoryServiceTests {
                 Long id = 1L;
 
                 // given
-                InventoryLotResponse lot1 = new InventoryLotResponse(
-                                1L,
-                                5,
-                                LocalDate.now().plusDays(10),
-                                LotStatus.ACTIVE,
-                                "CODE-1");
-
-                InventoryLotResponse lot2 = new InventoryLotResponse(
-                                1L,
-                                3,
-                                LocalDate.now().plusDays(20),
-                                LotStatus.ACTIVE,
-                                "CODE-2");
+                InventoryStock stock = InventoryStock.builder()
+                                .storeId(1L)
+                                .productId(id)
+                                .totalQuantity(8)
+                                .build();
 
                 MinimumProduct minimumProduct = MinimumProduct.builder()
                                 .productId(id)
@@ -67,17 +85,12 @@ class InventoryServiceTests {
                                 .minimumQuantity(3)
                                 .build();
 
-                ProductBaseInfo baseInfo = new ProductBaseInfo(
-                                1L,
-                                "사이다",
-                                BigDecimal.valueOf(1200),
-                                3);
-
-                doNothing().when(inventoryService).updateExpiredInventoryStatus();
-                when(inventoryRepository.findAllProduct())
-                                .thenReturn(List.of(lot1, lot2));
-                when(inventoryRepository.findAllProductBaseInfo())
-                                .thenReturn(List.of(baseInfo));
+                when(inventoryStockRepository.findAllByStoreIdOrderByProductIdAsc(1L))
+                                .thenReturn(List.of(stock));
+                when(minimumProductRepository.findAllByStoreId(1L))
+                                .thenReturn(List.of(minimumProduct));
+                when(productCatalog.getAll(List.of(id)))
+                                .thenReturn(Map.of(id, productInfo(id, "사이다")));
                 // when
                 ProductResponse response = inventoryService.getAllProduct();
 
@@ -87,8 +100,10 @@ class InventoryServiceTests {
 
                 assertEquals("사이다", summary.productName());
                 assertEquals(8, summary.totalQuantity());
-                assertThat(summary.products()).hasSize(2);
-
+                assertEquals(3, summary.minimumQuantity());
+                // 로트 상세는 상품 id 조회에서 가져옴
+                assertThat(summary.products()).isEmpty();
+                verify(inventoryRepository, never()).findAll();
         }
 
         @Test
@@ -101,10 +116,7 @@ class InventoryServiceTests {
                                 .quantity(5)
                                 .expirationDate(LocalDate.now().plusDays(10))
                                 .status(LotStatus.ACTIVE)
-                                .productName("사이다")
                                 .productCode("CID-1")
-                                .price(BigDecimal.valueOf(1200))
-                                .description("음료")
                                 .build();
 
                 Inventory expiredInventory = Inventory.builder()
@@ -112,10 +124,7 @@ class InventoryServiceTests {
                                 .quantity(10)
                                 .expirationDate(LocalDate.now().minusDays(1))
                                 .status(LotStatus.EXPIRED)
-                                .productName("사이다")
                                 .productCode("CID-OLD")
-                                .price(BigDecimal.valueOf(1200))
-                                .description("음료")
                                 .build();
 
                 MinimumProduct minimumProduct = MinimumProduct.builder()
@@ -129,7 +138,8 @@ class InventoryServiceTests {
 
                 when(minimumProductRepository.findByProductIdAndStoreId(id, 1L))
                                 .thenReturn(Optional.of(minimumProduct));
-                doNothing().when(inventoryService).updateExpiredInventoryStatus();
+                when(productCatalog.find(id))
+                                .thenReturn(Optional.of(productInfo(id, "사이다")));
 
                 // when
                 ProductSummaryResponse result = inventoryService.searchProduct(id);
@@ -149,10 +159,7 @@ class InventoryServiceTests {
                                 .quantity(5)
                                 .expirationDate(LocalDate.now().plusDays(10))
                                 .status(LotStatus.ACTIVE)
-                                .productName("사이다")
                                 .productCode("CID-1")
-                                .price(BigDecimal.valueOf(1200))
-                                .description("음료")
                                 .build();
 
                 Inventory expiredInventory = Inventory.builder()
@@ -160,10 +167,7 @@ class InventoryServiceTests {
                                 .quantity(10)
                                 .expirationDate(LocalDate.now().minusDays(1))
                                 .status(LotStatus.EXPIRED)
-                                .productName("사이다")
                                 .productCode("CID-OLD")
-                                .price(BigDecimal.valueOf(1200))
-                                .description("음료")
                                 .build();
 
                 MinimumProduct minimumProduct = MinimumProduct.builder()
@@ -171,11 +175,15 @@ class InventoryServiceTests {
                                 .storeId(1L)
                                 .minimumQuantity(3)
                                 .build();
-                when(inventoryRepository.findByProductNameContaining(name))
+                when(productNameIndex.search(name))
+                                .thenReturn(List.of(1L));
+                when(inventoryRepository.findByProductIdIn(List.of(1L)))
                                 .thenReturn(List.of(activeInventory, expiredInventory));
 
-                when(minimumProductRepository.findByProductIdAndStoreId(1L, 1L))
-                                .thenReturn(Optional.of(minimumProduct));
+                when(minimumProductRepository.findAllByProductIdInAndStoreId(List.of(1L), 1L))
+                                .thenReturn(List.of(minimumProduct));
+                when(productCatalog.getAll(List.of(1L)))
+                                .thenReturn(Map.of(1L, productInfo(1L, "사이다")));
 
                 // when
                 List<ProductSummaryResponse> results = inventoryService.searchByName(name);
@@ -197,23 +205,14 @@ class InventoryServiceTests {
                                 LocalDate.now().plusDays(30),
                                 "CID-1");
 
-                Inventory activeInventory = Inventory.builder()
-                                .productId(1L)
-                                .quantity(5)
-                                .expirationDate(LocalDate.now().plusDays(10))
-                                .status(LotStatus.ACTIVE)
-                                .productName("사이다")
-                                .productCode("CID-2")
-                                .price(BigDecimal.valueOf(1200))
-                                .description("음료")
-                                .build();
-
-                when(inventoryRepository.findFirstByProductNameOrderByIdAsc(request.name()))
-                                .thenReturn(Optional.of(activeInventory));
+                when(productCatalog.findByName(request.name()))
+                                .thenReturn(Optional.of(productInfo(1L, "productName")));
                 // when
                 inventoryService.inbound(request);
                 // then
                 verify(inventoryRepository, times(1)).save(any());
+                // 합계 행이 없으므로 새로 생성
+                verify(inventoryStockRepository, times(1)).save(any(InventoryStock.class));
         }
 
         @Test
@@ -221,19 +220,14 @@ class InventoryServiceTests {
         void outbound() {
                 // given
                 InventoryOutboundRequest request = new InventoryOutboundRequest("사이다", 2, 2);
-                Inventory activeInventory = Inventory.builder()
-                                .productId(1L)
-                                .quantity(5)
-                                .expirationDate(LocalDate.now().plusDays(10))
-                                .status(LotStatus.ACTIVE)
-                                .productName("사이다")
-                                .productCode("CID-2")
-                                .price(BigDecimal.valueOf(1200))
-                                .description("음료")
-                                .build();
-                when(inventoryRepository.findValidProductsWithLock(
-                                eq(request.name()),
-                                any(LocalDate.class))).thenReturn(List.of(activeInventory));
+                Inventory activeInventory = createLot(1L, 1L, 5, LocalDate.now().plusMonths(3));
+                when(productCatalog.findByName("사이다")).thenReturn(Optional.of(productInfo(1L, "사이다")));
+                when(inventoryRepository.findValidProductsPageSkipLocked(
+                                eq(1L),
+                                any(LocalDate.class),
+                                any(LocalDate.class),
+                                eq(0L),
+                                any(Pageable.class))).thenReturn(List.of(activeInventory));
                 // when
                 inventoryService.outbound(request);
                 // then
@@ -243,6 +237,163 @@ class InventoryServiceTests {
                 List<Inventory> saved = captor.getValue();
                 // 출고 후 재고 수량이 감소했는지 검증
                 assertEquals(3, saved.get(0).getQuantity());
+                // 첫 페이지로 충분하면 나머지 로트는 잠그지 않음
+                verify(inventoryRepository, times(1)).findValidProductsPageSkipLocked(
+                                any(), any(), any(), any(), any(Pageable.class));
+                verify(inventoryRepository, never()).findValidProductsPageWithLock(
+                                any(), any(), any(), any(), any(), any(Pageable.class));
+                // 재고 합계도 같은 수량만큼 차감
+                verify(inventoryStockRepository, times(1)).addQuantity(1L, 1L, -2);
+        }
+
+        @Test
+        @DisplayName("건너뛴 로트까지 필요하면 대기 잠금으로 나머지 차감")
+        void outbound_FallbackToBlockingLock() {
+                // given
+                InventoryOutboundRequest request = new InventoryOutboundRequest("사이다", 6, 1);
+                Inventory freeLot = createLot(2L, 1L, 4, LocalDate.now().plusMonths(3));
+                Inventory contendedLot = createLot(1L, 1L, 5, LocalDate.now().plusMonths(2));
+
+                when(productCatalog.findByName("사이다")).thenReturn(Optional.of(productInfo(1L, "사이다")));
+                when(inventoryRepository.findValidProductsPageSkipLocked(
+                                eq(1L), any(LocalDate.class), any(LocalDate.class), any(), any(Pageable.class)))
+                                .thenReturn(List.of(freeLot))
+                                .thenReturn(List.of());
+                // 대기 잠금은 이미 잠근 로트(2)를 빼고 조회
+                when(inventoryRepository.findValidProductsPageWithLock(
+                                eq(1L), any(LocalDate.class), any(LocalDate.class), eq(0L),
+                                eq(List.of(2L, 0L)), any(Pageable.class)))
+                                .thenReturn(List.of(contendedLot));
+
+                // when
+                inventoryService.outbound(request);
+
+                // then
+                assertEquals(LotStatus.CONSUMED, freeLot.getStatus());
+                assertEquals(3, contendedLot.getQuantity());
+                verify(inventoryStockRepository, times(1)).addQuantity(1L, 1L, -6);
+        }
+
+        @Test
+        @DisplayName("스케줄러 반영 전 만료 로트는 조회 시 만료로 표시")
+        void searchProduct_ExpiredBeforeSweep() {
+                // given
+                Long id = 1L;
+                Inventory staleInventory = Inventory.builder()
+                                .productId(id)
+                                .quantity(7)
+                                .expirationDate(LocalDate.now().minusDays(1))
+                                .status(LotStatus.ACTIVE)
+                                .productCode("CID-STALE")
+                                .build();
+
+                MinimumProduct minimumProduct = MinimumProduct.builder()
+                                .productId(id)
+                                .storeId(1L)
+                                .minimumQuantity(3)
+                                .build();
+
+                when(inventoryRepository.findByProductId(id))
+                                .thenReturn(List.of(staleInventory));
+                when(minimumProductRepository.findByProductIdAndStoreId(id, 1L))
+                                .thenReturn(Optional.of(minimumProduct));
+                when(productCatalog.find(id))
+                                .thenReturn(Optional.of(productInfo(id, "사이다")));
+
+                // when
+                ProductSummaryResponse result = inventoryService.searchProduct(id);
+
+                // then
+                assertEquals(0, result.totalQuantity());
+                assertEquals(LotStatus.EXPIRED, result.products().get(0).status());
+                verify(inventoryRepository, never()).bulkExpire(any());
+        }
+
+        @Test
+        @DisplayName("만료 로트 일괄 처리 및 재고 합계 차감")
+        void expireInventories() {
+                // given
+                LocalDate today = LocalDate.now();
+                when(inventoryRepository.sumExpiringQuantityByProduct(today))
+                                .thenReturn(List.of(new ProductQuantityInfo(1L, 10L)));
+                when(inventoryRepository.bulkExpire(today)).thenReturn(2);
+
+                // when
+                int expiredCount = inventoryService.expireInventories(today);
+
+                // then
+                assertEquals(2, expiredCount);
+                verify(inventoryStockRepository, times(1)).addQuantity(1L, 1L, -10);
+        }
+
+        @Test
+        @DisplayName("여러 상품 일괄 출고 시 유통기한 빠른 로트부터 차감")
+        void outboundBatch() {
+                // given
+                InventoryBatchOutboundRequest request = new InventoryBatchOutboundRequest(List.of(
+                                new InventoryOutboundRequest("사이다", 6, 1),
+                                new InventoryOutboundRequest("콜라", 2, 1)));
+
+                Inventory ciderFirst = createLot(1L, 1L, 3, LocalDate.now().plusMonths(2));
+                Inventory ciderSecond = createLot(2L, 1L, 5, LocalDate.now().plusMonths(3));
+                Inventory cola = createLot(3L, 2L, 4, LocalDate.now().plusMonths(2));
+
+                when(productCatalog.findByName("사이다")).thenReturn(Optional.of(productInfo(1L, "사이다")));
+                when(productCatalog.findByName("콜라")).thenReturn(Optional.of(productInfo(2L, "콜라")));
+                when(inventoryRepository.findValidProductsWithLockByProductIds(
+                                eq(List.of(1L, 2L)),
+                                any(LocalDate.class))).thenReturn(List.of(ciderFirst, ciderSecond, cola));
+
+                // when
+                InventoryBatchOutboundResponse response = inventoryService.outboundBatch(request);
+
+                // then
+                assertThat(response.lines()).hasSize(2);
+                assertThat(response.lines().get(0).allocations()).containsExactly(
+                                new LotAllocationResponse(1L, 3),
+                                new LotAllocationResponse(2L, 3));
+                assertThat(response.lines().get(1).allocations()).containsExactly(
+                                new LotAllocationResponse(3L, 2));
+                assertEquals(LotStatus.CONSUMED, ciderFirst.getStatus());
+                verify(inventoryStockRepository, times(1)).addQuantity(1L, 1L, -6);
+                verify(inventoryStockRepository, times(1)).addQuantity(1L, 2L, -2);
+        }
+
+        @Test
+        @DisplayName("일괄 출고 중 한 품목이라도 부족하면 예외")
+        void outboundBatch_OutOfStock() {
+                // given
+                InventoryBatchOutboundRequest request = new InventoryBatchOutboundRequest(List.of(
+                                new InventoryOutboundRequest("사이다", 1, 1),
+                                new InventoryOutboundRequest("콜라", 10, 1)));
+
+                when(productCatalog.findByName("사이다")).thenReturn(Optional.of(productInfo(1L, "사이다")));
+                when(productCatalog.findByName("콜라")).thenReturn(Optional.of(productInfo(2L, "콜라")));
+                when(inventoryRepository.findValidProductsWithLockByProductIds(anyList(), any(LocalDate.class)))
+                                .thenReturn(List.of(
+                                                createLot(1L, 1L, 3, LocalDate.now().plusMonths(2)),
+                                                createLot(3L, 2L, 4, LocalDate.now().plusMonths(2))));
+
+                // when & then
+                BusinessException exception = assertThrows(BusinessException.class,
+                                () -> inventoryService.outboundBatch(request));
+                assertEquals(InventoryErrorCode.OUT_OF_STOCK, exception.getErrorCode());
+                verify(inventoryRepository, never()).saveAll(anyList());
         }
 
+        private Inventory createLot(Long lotId, Long productId, int quantity, LocalDate expirationDate) {
+                Inventory inventory = Inventory.builder()
+                                .productId(productId)
+                                .quantity(quantity)
+                                .expirationDate(expirationDate)
+                                .status(LotStatus.ACTIVE)
+                                .productCode("LOT-" + lotId)
+                                .build();
+                ReflectionTestUtils.setField(inventory, "id", lotId);
+                return inventory;
+        }
+
+        private ProductInfo productInfo(Long productId, String name) {
+                return new ProductInfo(productId, "P-" + productId, name, BigDecimal.valueOf(1200), "음료", true);
+        }
 }
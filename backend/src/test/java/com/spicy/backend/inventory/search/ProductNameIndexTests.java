@@ -0,0 +1,79 @@
+package com.spicy.backend.inventory.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductNameIndexTests {
+
+    private ProductNameIndex productNameIndex;
+
+    @BeforeEach
+    void setUp() {
+        productNameIndex = new ProductNameIndex();
+        productNameIndex.rebuild(Map.of(
+                1L, "사이다",
+                2L, "콜라",
+                3L, "닭가슴살 샐러드",
+                4L, "Cider Zero",
+                7L, "가나 초콜릿",
+                8L, "사과"));
+    }
+
+    @Test
+    @DisplayName("음절 단위 앞/중간 부분 일치 검색")
+    void searchBySyllable() {
+        assertThat(productNameIndex.search("사이")).containsExactly(1L);
+        assertThat(productNameIndex.search("이다")).containsExactly(1L);
+        assertThat(productNameIndex.search("가슴살")).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("입력 중인 자모로도 검색")
+    void searchByIncompleteJamo() {
+        // "사이" 입력 중 "ㅅ+ㅏ+ㅇ"
+        assertThat(productNameIndex.search("사ㅇ")).containsExactly(1L);
+        assertThat(productNameIndex.search("콜ㄹ")).containsExactly(2L);
+        // 초성 하나만 입력
+        assertThat(productNameIndex.search("ㄷ")).containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("완성된 음절은 음절 경계를 넘어 일치하지 않음")
+    void searchDoesNotMatchAcrossSyllables() {
+        // "가나"의 자모(ㄱㅏㄴㅏ)에는 "간"(ㄱㅏㄴ)이 들어 있지만 음절로는 다름
+        assertThat(productNameIndex.search("간")).isEmpty();
+        // "사과"의 자모(ㅅㅏㄱㅗㅏ)에는 "삭"(ㅅㅏㄱ)이 들어 있지만 음절로는 다름
+        assertThat(productNameIndex.search("삭")).isEmpty();
+        assertThat(productNameIndex.search("가나")).containsExactly(7L);
+    }
+
+    @Test
+    @DisplayName("공백/대소문자 무시")
+    void searchIgnoresWhitespaceAndCase() {
+        assertThat(productNameIndex.search("가슴살샐러드")).containsExactly(3L);
+        assertThat(productNameIndex.search("cider")).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("입고로 추가/이름 변경된 상품 반영")
+    void putUpdatesIndex() {
+        productNameIndex.put(5L, "사이다 제로");
+        productNameIndex.put(2L, "펩시");
+
+        assertThat(productNameIndex.search("사이다")).containsExactly(1L, 5L);
+        assertThat(productNameIndex.search("콜라")).isEmpty();
+        assertThat(productNameIndex.search("펩시")).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("일치하는 상품이 없으면 빈 목록")
+    void searchNotFound() {
+        assertThat(productNameIndex.search("우유")).isEmpty();
+        assertThat(productNameIndex.search(" ")).isEmpty();
+    }
+}
@@ -2,12 +2,13 @@ package com.spicy.backend.order.application;
 
 import com.spicy.backend.global.error.errorcode.GlobalErrorCode;
 import com.spicy.backend.global.error.exception.BusinessException;
-import com.spicy.backend.order.dao.ProductRepository;
-import com.spicy.backend.order.dao.cartitems.CartItemRepository;
+import com.spicy.backend.order.application.cart.CartStore;
 import com.spicy.backend.order.domain.CartItem;
 import com.spicy.backend.order.domain.Product;
 import com.spicy.backend.order.dto.request.CartItemCreateRequest;
 import com.spicy.backend.order.dto.response.CartItemResponse;
+import com.spicy.backend.order.dto.response.CartLine;
+import com.spicy.backend.order.dto.response.ProductInfo;
 import com.spicy.backend.order.error.CartItemErrorCode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,11 +21,10 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -35,9 +35,9 @@ class CartItemServiceTests {
     private CartItemService cartItemService;
 
     @Mock
-    private CartItemRepository cartItemRepository;
+    private CartStore cartStore;
     @Mock
-    private ProductRepository productRepository;
+    private ProductCatalog productCatalog;
 
     private Long userId;
     private Long storeId;
@@ -57,6 +57,7 @@ class CartItemServiceTests {
         productId = 100L;
 
         quantity = 20L;
+        cartId = 1000L;
 
         product = Product.builder()
                 .price(BigDecimal.valueOf(100.00))
@@ -81,9 +82,8 @@ class CartItemServiceTests {
     @DisplayName("장바구니 상품 생성 - 성공")
     void addCartItem_Success() {
         // given
-        given(productRepository.findById(productId)).willReturn(Optional.of(product));
-
-        given(cartItemRepository.saveAll(anyList())).willReturn(List.of(cartItem));
+        given(productCatalog.getAll(List.of(productId))).willReturn(Map.of(productId, ProductInfo.from(product)));
+        given(cartStore.add(userId, storeId, Map.of(productId, quantity))).willReturn(List.of(cartId));
 
         // when
         List<Long> response = cartItemService.addCartItem(userId, storeId, List.of(cartItemCreateRequest));
@@ -91,11 +91,27 @@ class CartItemServiceTests {
         // then
         assertEquals(cartId, response.get(0));
     }
+
+    @Test
+    @DisplayName("장바구니 상품 생성 - 같은 상품은 수량을 합쳐 한 행으로 저장")
+    void addCartItem_MergeSameProduct() {
+        // given
+        given(productCatalog.getAll(List.of(productId, productId)))
+                .willReturn(Map.of(productId, ProductInfo.from(product)));
+        given(cartStore.add(userId, storeId, Map.of(productId, quantity + 5L))).willReturn(List.of(cartId));
+
+        // when
+        List<Long> response = cartItemService.addCartItem(userId, storeId,
+                List.of(cartItemCreateRequest, new CartItemCreateRequest(productId, 5L)));
+
+        // then
+        assertEquals(List.of(cartId), response);
+    }
     @Test
     @DisplayName("장바구니 상품 생성 - 실패 - RESOURCE_NOT_FOUND")
     void addCartItem_Failure_RESOURCE_NOT_FOUND() {
         // given
-        given(productRepository.findById(productId)).willReturn(Optional.empty());
+        given(productCatalog.getAll(List.of(productId))).willReturn(Map.of());
 
         // when & then
         BusinessException exception = assertThrows(BusinessException.class, () ->
@@ -109,33 +125,48 @@ class CartItemServiceTests {
     @DisplayName("장바구니 상품 조회 - 성공")
     void getCartItems_Success() {
         // given
-        given(cartItemRepository.findAllByUserIdAndStoreIdAndDeletedAtIsNull(userId, storeId)).willReturn(List.of(cartItem));
+        given(cartStore.findAll(userId, storeId)).willReturn(List.of(new CartLine(cartId, productId, quantity)));
+        given(productCatalog.getAll(List.of(productId))).willReturn(Map.of(productId, ProductInfo.from(product)));
 
         // when
         List<CartItemResponse> responses = cartItemService.getCartItems(userId, storeId);
 
         // then
-        assertEquals(product, responses.get(0).product());
+        assertEquals(ProductInfo.from(product), responses.get(0).product());
         assertEquals(quantity, responses.get(0).quantity());
     }
 
+    @Test
+    @DisplayName("장바구니 상품 조회 - 카탈로그에 없는 상품은 제외")
+    void getCartItems_SkipMissingProduct() {
+        // given
+        given(cartStore.findAll(userId, storeId)).willReturn(List.of(new CartLine(cartId, productId, quantity)));
+        given(productCatalog.getAll(List.of(productId))).willReturn(Map.of());
+
+        // when
+        List<CartItemResponse> responses = cartItemService.getCartItems(userId, storeId);
+
+        // then
+        assertEquals(0, responses.size());
+    }
+
 
     @Test
     @DisplayName("장바구니 상품 삭제 - 성공")
     void deleteCartItem_Success() {
         // given
-        given(cartItemRepository.findByUserIdAndIdAndStoreIdAndDeletedAtIsNull(userId, cartItem.getId(), storeId)).willReturn(Optional.of(cartItem));
+        given(cartStore.remove(userId, storeId, cartItem.getId())).willReturn(true);
 
         // when & then
         cartItemService.deleteCartItem(userId, cartItem.getId(), storeId);
 
-        verify(cartItemRepository, times(1)).delete(cartItem);
+        verify(cartStore, times(1)).remove(userId, storeId, cartItem.getId());
     }
     @Test
     @DisplayName("장바구니 상품 삭제 - 실패 - CART_NOT_FOUND")
     void deleteCartItem_Failure_CART_NOT_FOUND() {
         // given
-        given(cartItemRepository.findByUserIdAndIdAndStoreIdAndDeletedAtIsNull(userId, cartItem.getId(), storeId)).willReturn(Optional.empty());
+        given(cartStore.remove(userId, storeId, cartItem.getId())).willReturn(false);
 
         // when & then
         BusinessException exception = assertThrows(BusinessException.class, () ->
@@ -0,0 +1,131 @@
+package com.spicy.backend.order.application;
+
+import com.spicy.backend.global.error.exception.BusinessException;
+import com.spicy.backend.order.dto.request.OrderCreateRequest;
+import com.spicy.backend.order.dto.response.OrderCreateResponse;
+import com.spicy.backend.order.error.CartItemErrorCode;
+import com.spicy.backend.order.error.OrderErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OrderIdempotencyStoreTests {
+
+    private OrderIdempotencyStore store;
+    private OrderCreateRequest request;
+
+    @BeforeEach
+    void setUp() {
+        store = new OrderIdempotencyStore(60, 5_000);
+        request = new OrderCreateRequest(LocalDate.now(), "address", "receiverName", "receiverPhone", "memo");
+    }
+
+    @Test
+    @DisplayName("같은 키로 재시도하면 처음 결과를 반환")
+    void execute_ReturnsStoredResult() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        OrderCreateResponse first = store.execute(1L, 10L, "key-1", request,
+                () -> OrderCreateResponse.from((long) calls.incrementAndGet()));
+        OrderCreateResponse retry = store.execute(1L, 10L, "key-1", request,
+                () -> OrderCreateResponse.from((long) calls.incrementAndGet()));
+
+        // then
+        assertEquals(1, calls.get());
+        assertEquals(first, retry);
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 같은 요청은 한 번만 실행하고 결과를 기다림")
+    void execute_ConcurrentDuplicatesWaitForInFlight() throws Exception {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // when
+        List<Future<OrderCreateResponse>> futures = new ArrayList<>();
+        futures.add(executor.submit(() -> store.execute(1L, 10L, "key-1", request, () -> {
+            calls.incrementAndGet();
+            started.countDown();
+            awaitQuietly(release);
+            return OrderCreateResponse.from(100L);
+        })));
+        started.await();
+        for (int i = 0; i < 3; i++) {
+            futures.add(executor.submit(() -> store.execute(1L, 10L, "key-1", request,
+                    () -> OrderCreateResponse.from((long) calls.incrementAndGet()))));
+        }
+        release.countDown();
+
+        // then
+        for (Future<OrderCreateResponse> future : futures) {
+            assertEquals(100L, future.get().orderId());
+        }
+        assertEquals(1, calls.get());
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("실패한 요청은 보관하지 않고 재시도 시 다시 실행")
+    void execute_FailureIsNotStored() {
+        // when
+        assertThrows(BusinessException.class, () -> store.execute(1L, 10L, "key-1", request, () -> {
+            throw new BusinessException(CartItemErrorCode.CART_ITEM_NOT_FOUND);
+        }));
+        OrderCreateResponse retry = store.execute(1L, 10L, "key-1", request, () -> OrderCreateResponse.from(5L));
+
+        // then
+        assertEquals(5L, retry.orderId());
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 내용의 요청 - 실패 - IDEMPOTENCY_KEY_REUSED")
+    void execute_Failure_IDEMPOTENCY_KEY_REUSED() {
+        // given
+        store.execute(1L, 10L, "key-1", request, () -> OrderCreateResponse.from(1L));
+        OrderCreateRequest other = new OrderCreateRequest(LocalDate.now(), "other", "receiverName", "receiverPhone", "memo");
+
+        // when & then
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> store.execute(1L, 10L, "key-1", other, () -> OrderCreateResponse.from(2L)));
+        assertEquals(OrderErrorCode.IDEMPOTENCY_KEY_REUSED, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 결과는 정리")
+    void evictExpired_RemovesCompletedEntries() {
+        // given
+        OrderIdempotencyStore shortLived = new OrderIdempotencyStore(0, 5_000);
+        shortLived.execute(1L, 10L, "key-1", request, () -> OrderCreateResponse.from(1L));
+
+        // when
+        shortLived.evictExpired();
+
+        // then
+        assertEquals(0, shortLived.size());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,22 +1,29 @@
 package com.spicy.backend.order.application;
 
+import com.spicy.backend.global.error.errorcode.GlobalErrorCode;
 import com.spicy.backend.global.error.exception.BusinessException;
-import com.spicy.backend.order.dao.cartitems.CartItemRepository;
+import com.spicy.backend.inventory.application.InventoryReservationEngine;
+import com.spicy.backend.order.application.cart.CartStore;
 import com.spicy.backend.order.dao.order.OrderItemRepository;
 import com.spicy.backend.order.dao.order.OrderRepository;
-import com.spicy.backend.order.domain.CartItem;
 import com.spicy.backend.order.domain.Order;
 import com.spicy.backend.order.domain.OrderItem;
 import com.spicy.backend.order.domain.Product;
 import com.spicy.backend.order.dto.request.OrderCreateRequest;
 import com.spicy.backend.order.dto.request.OrderItemRequest;
 import com.spicy.backend.order.dto.request.wrapper.OrderAndOrderItemRequest;
+import com.spicy.backend.order.dto.response.CartLine;
+import com.spicy.backend.order.dto.response.OrderBulkCancelResponse;
 import com.spicy.backend.order.dto.response.OrderCanceledResponse;
 import com.spicy.backend.order.dto.response.OrderCreateResponse;
 import com.spicy.backend.order.dto.response.OrderItemResponse;
+import com.spicy.backend.order.dto.response.OrderPageResponse;
 import com.spicy.backend.order.dto.response.OrderResponse;
+import com.spicy.backend.order.dto.response.ProductInfo;
 import com.spicy.backend.order.enums.Status;
 import com.spicy.backend.order.error.OrderErrorCode;
+import com.spicy.backend.order.util.OrderNumberGenerator;
+import com.spicy.backend.settlement.application.SalesRollupService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -28,7 +35,9 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -37,6 +46,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -50,7 +60,15 @@ class OrderServiceTests {
         @Mock
         private OrderItemRepository orderItemRepository;
         @Mock
-        private CartItemRepository cartItemRepository;
+        private CartStore cartStore;
+        @Mock
+        private ProductCatalog productCatalog;
+        @Mock
+        private InventoryReservationEngine inventoryReservationEngine;
+        @Mock
+        private SalesRollupService salesRollupService;
+        @Mock
+        private OrderNumberGenerator orderNumberGenerator;
 
         private Long userId;
         private Long orderId;
@@ -72,7 +90,7 @@ class OrderServiceTests {
 
         private OrderItem orderItem;
 
-        private CartItem cartItem;
+        private CartLine cartLine;
 
         private Product product;
 
@@ -118,12 +136,7 @@ class OrderServiceTests {
                                 .build();
                 ReflectionTestUtils.setField(product, "productId", productId);
 
-                cartItem = CartItem.builder()
-                                .storeId(storeId)
-                                .userId(userId)
-                                .product(product)
-                                .quantity(quantity)
-                                .build();
+                cartLine = new CartLine(500L, productId, quantity);
         }
 
         @Test
@@ -157,39 +170,88 @@ class OrderServiceTests {
                 ReflectionTestUtils.setField(mockOrder, "id", orderId);
                 given(orderRepository.save(any(Order.class))).willReturn(mockOrder);
 
-                given(orderItemRepository.saveAll(anyList())).willReturn(List.of());
+                given(orderItemRepository.bulkInsertOrderItems(anyList())).willReturn(List.of(orderItemId));
 
-                given(cartItemRepository.findAllByUserIdAndStoreIdAndDeletedAtIsNull(userId, storeId))
-                                .willReturn(List.of(cartItem));
+                given(cartStore.findAll(userId, storeId)).willReturn(List.of(cartLine));
+                given(productCatalog.getAll(List.of(productId)))
+                                .willReturn(Map.of(productId, ProductInfo.from(product)));
 
                 // when
                 OrderCreateResponse response = orderService.createOrder(storeId, userId, orderCreateRequest);
 
                 // then
                 assertEquals(orderId, response.orderId());
+                verify(orderItemRepository, times(1)).bulkInsertOrderItems(anyList());
+                // 주문한 장바구니 상품 제거
+                verify(cartStore, times(1)).checkout(userId, storeId, List.of(cartLine));
+                // 주문 수량만큼 재고 예약
+                verify(inventoryReservationEngine, times(1)).reserve(orderId, Map.of(productId, quantity.intValue()));
+                // 정산용 일자별 합계 증가
+                verify(salesRollupService, times(1)).recordOrders(List.of(orderId));
         }
 
          @Test
          @DisplayName("주문 전체 조회 - 성공")
          void getOrders_Success() {
          // given
-         given(orderRepository.findAllByUserIdAndStoreIdAndStatusAndDeletedAtIsNullOrderByCreatedAtDesc(userId, storeId, Status.PENDING)).willReturn(orderList);
+         given(orderRepository.findPageByCursor(userId, storeId, Status.PENDING, null, null, 21)).willReturn(OrderResponse.from(orderList));
 
          // when
-         List<OrderResponse> response = orderService.getAllOrders(userId, storeId, Status.PENDING);
+         OrderPageResponse response = orderService.getAllOrders(userId, storeId, Status.PENDING, null, null, 20);
 
          // then
-         assertEquals(orderId, response.getFirst().orderId());
+         assertEquals(orderId, response.orders().getFirst().orderId());
+         assertThat(response.hasNext()).isFalse();
 
-         verify(orderRepository, times(1)).findAllByUserIdAndStoreIdAndStatusAndDeletedAtIsNullOrderByCreatedAtDesc(userId, storeId, Status.PENDING);
+         verify(orderRepository, times(1)).findPageByCursor(userId, storeId, Status.PENDING, null, null, 21);
          }
 
+        @Test
+        @DisplayName("주문 전체 조회 - 다음 페이지 커서 반환")
+        void getOrders_NextCursor() {
+                // given
+                Order older = Order.builder()
+                                .orderNumber("olderNumber")
+                                .storeId(storeId)
+                                .totalAmount(BigDecimal.valueOf(0))
+                                .status(Status.PENDING)
+                                .build();
+                ReflectionTestUtils.setField(older, "id", orderId - 1);
+                LocalDateTime createdAt = LocalDateTime.now();
+                ReflectionTestUtils.setField(order, "createdAt", createdAt);
+                given(orderRepository.findPageByCursor(userId, storeId, Status.PENDING, null, null, 2))
+                                .willReturn(OrderResponse.from(List.of(order, older)));
+
+                // when
+                OrderPageResponse response = orderService.getAllOrders(userId, storeId, Status.PENDING, null, null, 1);
+
+                // then
+                assertThat(response.orders()).hasSize(1);
+                assertThat(response.hasNext()).isTrue();
+                assertEquals(createdAt, response.nextCursorCreatedAt());
+                assertEquals(orderId, response.nextCursorId());
+        }
+
+        @Test
+        @DisplayName("주문 전체 조회 - 페이지 크기 상한 적용")
+        void getOrders_PageSizeCap() {
+                // given
+                given(orderRepository.findPageByCursor(userId, storeId, Status.PENDING, null, null, 101)).willReturn(List.of());
+
+                // when
+                OrderPageResponse response = orderService.getAllOrders(userId, storeId, Status.PENDING, null, null, 10_000);
+
+                // then
+                assertThat(response.orders()).isEmpty();
+                verify(orderRepository, times(1)).findPageByCursor(userId, storeId, Status.PENDING, null, null, 101);
+        }
+
         @Test
         @DisplayName("주문 정보 상세 조회 - 성공")
         void getOrderDetails_Success() {
                 // given
-                given(orderItemRepository.findAllByUserIdAndStoreIdAndOrderIdAndDeletedAtIsNullOrderByCreatedAtDesc(
-                                userId, storeId, orderId)).willReturn(List.of(orderItem));
+                given(orderItemRepository.findOrderItemResponses(userId, storeId, orderId))
+                                .willReturn(OrderItemResponse.from(List.of(orderItem)));
 
                 // when
                 List<OrderItemResponse> response = orderService.getOrderDetails(userId, storeId, orderId);
@@ -205,8 +267,7 @@ class OrderServiceTests {
         @DisplayName("주문 정보 상세 조회 - 실패 - ORDER_ITEM_NOT_FOUND")
         void getOrderDetails_Failure_ORDER_ITEM_NOT_FOUND() {
                 // given
-                given(orderItemRepository.findAllByUserIdAndStoreIdAndOrderIdAndDeletedAtIsNullOrderByCreatedAtDesc(
-                                userId, storeId, orderId)).willReturn(List.of());
+                given(orderItemRepository.findOrderItemResponses(userId, storeId, orderId)).willReturn(List.of());
 
                 // when & then
                 BusinessException exception = assertThrows(BusinessException.class,
@@ -219,26 +280,56 @@ class OrderServiceTests {
         @DisplayName("주문 취소 - 성공")
         void cancelOrder_Success() {
                 // given
-                given(orderRepository.findByUserIdAndStoreIdAndIdAndDeletedAtIsNull(userId, storeId, orderId))
-                                .willReturn(Optional.of(order));
+                given(orderRepository.findCancellableOrderIdsForUpdate(userId, storeId, List.of(orderId)))
+                                .willReturn(List.of(orderId));
+                order.updateStatus(Status.CANCELLED);
+                given(orderRepository.findOrderResponse(userId, storeId, orderId))
+                                .willReturn(Optional.of(OrderResponse.from(order)));
+                given(orderItemRepository.findOrderItemResponses(userId, storeId, orderId))
+                                .willReturn(OrderItemResponse.from(List.of(orderItem)));
 
-                given(orderItemRepository.findAllByUserIdAndStoreIdAndOrderIdAndDeletedAtIsNullOrderByCreatedAtDesc(
-                                userId, storeId, orderId)).willReturn(List.of(orderItem));
+                // when
+                OrderCanceledResponse response = orderService.cancelOrder(userId, storeId, orderId);
+
+                // then
+                assertEquals(Status.CANCELLED, response.order().status());
+                assertThat(response.items()).hasSize(1);
+                verify(orderRepository, times(1)).cancelOrders(null, null, List.of(orderId));
+                verify(orderItemRepository, times(1)).cancelAllByOrderIds(List.of(orderId));
+                verify(inventoryReservationEngine, times(1)).release(List.of(orderId));
+                verify(salesRollupService, times(1)).revertOrders(List.of(orderId));
+        }
+
+        @Test
+        @DisplayName("주문 취소 - 이미 취소됐거나 도착 처리된 주문은 변경하지 않음")
+        void cancelOrder_AlreadyCanceled() {
+                // given
+                given(orderRepository.findCancellableOrderIdsForUpdate(userId, storeId, List.of(orderId)))
+                                .willReturn(List.of());
+                order.updateStatus(Status.CANCELLED);
+                given(orderRepository.findOrderResponse(userId, storeId, orderId))
+                                .willReturn(Optional.of(OrderResponse.from(order)));
+                given(orderItemRepository.findOrderItemResponses(userId, storeId, orderId))
+                                .willReturn(OrderItemResponse.from(List.of(orderItem)));
 
                 // when
                 OrderCanceledResponse response = orderService.cancelOrder(userId, storeId, orderId);
 
                 // then
                 assertEquals(Status.CANCELLED, response.order().status());
-                assertThat(orderItem)
-                                .matches(item -> item.getStatus().equals(Status.CANCELLED));
+                verify(orderRepository, never()).cancelOrders(any(), any(), anyList());
+                verify(orderItemRepository, never()).cancelAllByOrderIds(anyList());
+                verify(inventoryReservationEngine, never()).release(anyList());
+                verify(salesRollupService, never()).revertOrders(anyList());
         }
 
         @Test
         @DisplayName("주문 실패 - ORDER_NOT_FOUND")
         void cancelOrder_Failure_ORDER_NOT_FOUND() {
                 // given
-                given(orderRepository.findByUserIdAndStoreIdAndIdAndDeletedAtIsNull(userId, storeId, orderId))
+                given(orderRepository.findCancellableOrderIdsForUpdate(userId, storeId, List.of(orderId)))
+                                .willReturn(List.of());
+                given(orderRepository.findOrderResponse(userId, storeId, orderId))
                                 .willReturn(Optional.empty());
 
                 // then & when
@@ -246,4 +337,60 @@ class OrderServiceTests {
                                 () -> orderService.cancelOrder(userId, storeId, orderId));
                 assertEquals(OrderErrorCode.ORDER_NOT_FOUND, exception.getErrorCode());
         }
+
+        @Test
+        @DisplayName("주문 일괄 취소 - 잠근 진행 중 주문에만 합계/예약 반영")
+        void cancelOrders_Bulk() {
+                // given
+                given(orderRepository.findCancellableOrderIdsForUpdate(null, null, List.of(1L, 2L, 3L)))
+                                .willReturn(List.of(1L, 3L));
+                given(orderItemRepository.cancelAllByOrderIds(List.of(1L, 3L))).willReturn(5L);
+
+                // when
+                OrderBulkCancelResponse response = orderService.cancelOrders(List.of(1L, 2L, 3L, 3L));
+
+                // then
+                assertEquals(3, response.requestedCount());
+                assertEquals(2L, response.canceledOrderCount());
+                assertEquals(5L, response.canceledItemCount());
+                verify(orderRepository, times(1)).cancelOrders(null, null, List.of(1L, 3L));
+                verify(salesRollupService, times(1)).revertOrders(List.of(1L, 3L));
+                verify(inventoryReservationEngine, times(1)).release(List.of(1L, 3L));
+        }
+
+        @Test
+        @DisplayName("주문 일괄 취소 - 실패 - 빈 목록")
+        void cancelOrders_Bulk_Failure_Empty() {
+                BusinessException exception = assertThrows(BusinessException.class,
+                                () -> orderService.cancelOrders(List.of()));
+                assertEquals(GlobalErrorCode.INVALID_INPUT_VALUE, exception.getErrorCode());
+                verify(orderRepository, never()).cancelOrders(any(), any(), anyList());
+        }
+
+        @Test
+        @DisplayName("주문 도착 처리 - 예약 재고를 출고로 전환")
+        void deliverOrder_Success() {
+                // given
+                given(orderRepository.deliverOrders(List.of(orderId))).willReturn(1L);
+
+                // when
+                orderService.deliverOrder(orderId);
+
+                // then
+                verify(orderItemRepository, times(1)).deliverAllByOrderIds(List.of(orderId));
+                verify(inventoryReservationEngine, times(1)).consume(List.of(orderId));
+        }
+
+        @Test
+        @DisplayName("주문 도착 처리 - 실패 - ORDER_NOT_DELIVERABLE")
+        void deliverOrder_Failure_ORDER_NOT_DELIVERABLE() {
+                // given
+                given(orderRepository.deliverOrders(List.of(orderId))).willReturn(0L);
+
+                // when & then
+                BusinessException exception = assertThrows(BusinessException.class,
+                                () -> orderService.deliverOrder(orderId));
+                assertEquals(OrderErrorCode.ORDER_NOT_DELIVERABLE, exception.getErrorCode());
+                verify(inventoryReservationEngine, never()).consume(anyList());
+        }
 }
@@ -0,0 +1,128 @@
+package com.spicy.backend.order.application;
+
+import com.spicy.backend.order.dao.ProductRepository;
+import com.spicy.backend.order.domain.Product;
+import com.spicy.backend.order.dto.response.ProductInfo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ProductCatalogTests {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 상품만 한 번에 조회")
+    void getAll_LoadsMissingInOneQuery() {
+        // given
+        ProductCatalog catalog = new ProductCatalog(productRepository, meterRegistry, 100, 600);
+        given(productRepository.findById(1L)).willReturn(Optional.of(product(1L, "사이다")));
+        given(productRepository.findAllById(List.of(2L, 3L)))
+                .willReturn(List.of(product(2L, "콜라"), product(3L, "우유")));
+        catalog.find(1L);
+
+        // when
+        Map<Long, ProductInfo> products = catalog.getAll(List.of(1L, 2L, 3L, 2L));
+
+        // then
+        assertThat(products).containsOnlyKeys(1L, 2L, 3L);
+        verify(productRepository, times(1)).findAllById(List.of(2L, 3L));
+        assertEquals(1.0, requests("hit"));
+        assertEquals(3.0, requests("miss"));
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 쓰지 않은 상품 제거")
+    void cache_EvictsLeastRecentlyUsed() {
+        // given
+        ProductCatalog catalog = new ProductCatalog(productRepository, meterRegistry, 2, 600);
+        given(productRepository.findAll())
+                .willReturn(List.of(product(1L, "사이다"), product(2L, "콜라")));
+        given(productRepository.findById(3L)).willReturn(Optional.of(product(3L, "우유")));
+        catalog.loadAll();
+        catalog.find(1L);
+
+        // when
+        catalog.find(3L);
+
+        // then
+        assertEquals(2, catalog.size());
+        assertEquals(1.0, evictions("size"));
+        assertThat(catalog.getAll(List.of(1L, 3L))).containsOnlyKeys(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 상품은 다시 조회")
+    void find_ReloadsAfterTtl() {
+        // given
+        ProductCatalog catalog = new ProductCatalog(productRepository, meterRegistry, 100, 0);
+        given(productRepository.findFirstByProductNameOrderByProductIdAsc("사이다"))
+                .willReturn(Optional.of(product(1L, "사이다")));
+
+        // when
+        catalog.findByName("사이다");
+        catalog.findByName("사이다");
+
+        // then
+        verify(productRepository, times(2)).findFirstByProductNameOrderByProductIdAsc("사이다");
+        assertEquals(1.0, evictions("expired"));
+    }
+
+    @Test
+    @DisplayName("명시적 무효화 후 다시 조회")
+    void evict_RemovesProduct() {
+        // given
+        ProductCatalog catalog = new ProductCatalog(productRepository, meterRegistry, 100, 600);
+        given(productRepository.findById(1L)).willReturn(Optional.of(product(1L, "사이다")));
+        catalog.find(1L);
+
+        // when
+        catalog.evict(1L);
+        catalog.find(1L);
+
+        // then
+        verify(productRepository, times(2)).findById(1L);
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("product.catalog.requests").tag("result", result).counter().count();
+    }
+
+    private double evictions(String cause) {
+        return meterRegistry.get("product.catalog.evictions").tag("cause", cause).counter().count();
+    }
+
+    private Product product(Long productId, String name) {
+        Product product = Product.builder()
+                .productName(name)
+                .price(BigDecimal.valueOf(1200))
+                .build();
+        ReflectionTestUtils.setField(product, "productId", productId);
+        return product;
+    }
+}
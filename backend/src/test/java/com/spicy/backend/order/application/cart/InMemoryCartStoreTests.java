@@ -0,0 +1,142 @@
+package com.spicy.backend.order.application.cart;
+
+import com.spicy.backend.order.dao.cartitems.CartItemRepository;
+import com.spicy.backend.order.domain.CartItem;
+import com.spicy.backend.order.domain.Product;
+import com.spicy.backend.order.dto.response.CartLine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryCartStoreTests {
+
+    private static final Long USER_ID = 1L;
+    private static final Long STORE_ID = 10L;
+
+    @Mock
+    private CartItemRepository cartItemRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private InMemoryCartStore cartStore;
+
+    @BeforeEach
+    void setUp() {
+        cartStore = new InMemoryCartStore(cartItemRepository, transactionManager);
+    }
+
+    @Test
+    @DisplayName("서버 시작 시 DB 장바구니 복원")
+    void rebuild() {
+        // given
+        given(cartItemRepository.findAllByDeletedAtIsNullOrderByIdAsc()).willReturn(List.of(cartItem(7L, 100L, 3L)));
+        // 삭제 처리된 행 중 ID가 더 큰 행이 있는 경우
+        given(cartItemRepository.findMaxId()).willReturn(9L);
+
+        // when
+        cartStore.rebuild();
+
+        // then
+        assertThat(cartStore.findAll(USER_ID, STORE_ID)).containsExactly(new CartLine(7L, 100L, 3L));
+        // 새로 담는 상품은 전체 행의 최대 ID 다음 번호
+        assertEquals(List.of(10L), cartStore.add(USER_ID, STORE_ID, Map.of(200L, 1L)));
+    }
+
+    @Test
+    @DisplayName("같은 상품은 수량 합산 후 같은 ID 유지")
+    void add_MergeQuantity() {
+        // when
+        List<Long> first = cartStore.add(USER_ID, STORE_ID, Map.of(100L, 2L));
+        List<Long> second = cartStore.add(USER_ID, STORE_ID, Map.of(100L, 3L));
+
+        // then
+        assertEquals(first, second);
+        assertThat(cartStore.findAll(USER_ID, STORE_ID)).containsExactly(new CartLine(first.get(0), 100L, 5L));
+    }
+
+    @Test
+    @DisplayName("장바구니 상품 삭제 - 다른 사용자의 상품은 삭제하지 않음")
+    void remove() {
+        // given
+        Long cartItemId = cartStore.add(USER_ID, STORE_ID, Map.of(100L, 2L)).get(0);
+
+        // when & then
+        assertFalse(cartStore.remove(2L, STORE_ID, cartItemId));
+        assertTrue(cartStore.remove(USER_ID, STORE_ID, cartItemId));
+        assertThat(cartStore.findAll(USER_ID, STORE_ID)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("주문 후 더 담은 수량은 장바구니에 남김")
+    void checkout_KeepAddedAfterOrder() {
+        // given
+        cartStore.add(USER_ID, STORE_ID, Map.of(100L, 2L, 200L, 1L));
+        List<CartLine> ordered = cartStore.findAll(USER_ID, STORE_ID);
+        cartStore.add(USER_ID, STORE_ID, Map.of(100L, 4L));
+
+        // when
+        cartStore.checkout(USER_ID, STORE_ID, ordered);
+
+        // then
+        assertThat(cartStore.findAll(USER_ID, STORE_ID))
+                .extracting(CartLine::productId, CartLine::quantity)
+                .containsExactly(tuple(100L, 4L));
+    }
+
+    @Test
+    @DisplayName("변경된 장바구니만 메모리 ID 그대로 DB에 반영하고 실패 시 다음 주기에 재시도")
+    void flush_Retry() {
+        // given
+        Long cartItemId = cartStore.add(USER_ID, STORE_ID, Map.of(100L, 2L)).get(0);
+        doThrow(new IllegalStateException("db down"))
+                .doNothing()
+                .when(cartItemRepository).replaceCart(anyLong(), anyLong(), anyList());
+
+        // when
+        int first = cartStore.flush();
+        int second = cartStore.flush();
+        int third = cartStore.flush();
+
+        // then
+        assertEquals(0, first);
+        assertEquals(1, second);
+        assertEquals(0, third);
+        verify(cartItemRepository, times(2)).replaceCart(USER_ID, STORE_ID, List.of(new CartLine(cartItemId, 100L, 2L)));
+    }
+
+    private CartItem cartItem(Long id, Long productId, Long quantity) {
+        Product product = Product.builder().build();
+        ReflectionTestUtils.setField(product, "productId", productId);
+
+        CartItem item = CartItem.builder()
+                .userId(USER_ID)
+                .storeId(STORE_ID)
+                .product(product)
+                .quantity(quantity)
+                .build();
+        ReflectionTestUtils.setField(item, "id", id);
+        return item;
+    }
+}
@@ -0,0 +1,143 @@
+package com.spicy.backend.order.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OrderNumberGeneratorTests {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 발급해도 중복 없음")
+    void next_UniqueUnderConcurrency() throws Exception {
+        // given
+        OrderNumberGenerator generator = new OrderNumberGenerator(1, Clock.system(ZONE));
+        int threads = 8;
+        int perThread = 50_000;
+        Set<String> numbers = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    numbers.add(generator.next());
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then
+        assertEquals(threads * perThread, numbers.size());
+    }
+
+    @Test
+    @DisplayName("날짜 접두사와 고정 길이 형식")
+    void next_Format() {
+        // given
+        Clock clock = Clock.fixed(LocalDateTime.of(2026, 1, 2, 10, 0).atZone(ZONE).toInstant(), ZONE);
+        OrderNumberGenerator generator = new OrderNumberGenerator(3, clock);
+
+        // when
+        String number = generator.next();
+
+        // then
+        assertThat(number).matches("ORD-20260102-[0-9A-Z]{10}");
+    }
+
+    @Test
+    @DisplayName("시계가 뒤로 가도 발급 순서가 유지되고 중복 없음")
+    void next_ClockMovesBackwards() {
+        // given
+        MutableClock clock = new MutableClock(LocalDateTime.of(2026, 1, 2, 10, 0).atZone(ZONE).toInstant());
+        OrderNumberGenerator generator = new OrderNumberGenerator(0, clock);
+
+        // when
+        String first = generator.next();
+        clock.millis -= 5_000;
+        String second = generator.next();
+        String third = generator.next();
+
+        // then
+        assertThat(second).isGreaterThan(first);
+        assertThat(third).isGreaterThan(second);
+    }
+
+    @Test
+    @DisplayName("한 ms에 시퀀스를 모두 쓰면 다음 ms로 넘어감")
+    void next_SequenceOverflow() {
+        // given
+        Clock clock = Clock.fixed(LocalDateTime.of(2026, 1, 2, 10, 0).atZone(ZONE).toInstant(), ZONE);
+        OrderNumberGenerator generator = new OrderNumberGenerator(0, clock);
+
+        // when
+        String previous = generator.next();
+        for (int i = 0; i < 10_000; i++) {
+            String current = generator.next();
+
+            // then
+            assertThat(current).isGreaterThan(previous);
+            previous = current;
+        }
+    }
+
+    @Test
+    @DisplayName("노드 ID 범위 검증")
+    void constructor_InvalidNodeId() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new OrderNumberGenerator(OrderNumberGenerator.MAX_NODE_ID + 1, Clock.system(ZONE)));
+    }
+
+    private static class MutableClock extends Clock {
+        private long millis;
+
+        MutableClock(Instant instant) {
+            this.millis = instant.toEpochMilli();
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZONE;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.spicy.backend.settlement.application;
+
+import com.spicy.backend.settlement.dao.DailySalesRepository;
+import com.spicy.backend.settlement.dao.SettlementRepository;
+import com.spicy.backend.settlement.domain.Settlement;
+import com.spicy.backend.settlement.dto.response.SettlementBatchResult;
+import com.spicy.backend.settlement.dto.response.StoreDailyTotal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SettlementBatchJobTests {
+
+    private static final LocalDate DATE = LocalDate.of(2026, 1, 21);
+
+    @Mock
+    private SettlementRepository settlementRepository;
+    @Mock
+    private DailySalesRepository dailySalesRepository;
+    @Mock
+    private SettlementFileService settlementFileService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SettlementBatchJob settlementBatchJob;
+
+    @BeforeEach
+    void setUp() {
+        settlementBatchJob = new SettlementBatchJob(settlementRepository, dailySalesRepository,
+                settlementFileService, transactionManager, 2, 2);
+        given(dailySalesRepository.findAllBySalesDateAndQuantityGreaterThan(DATE, 0)).willReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("일괄 정산 - 미정산 가맹점을 묶음 단위로 배치 저장")
+    void run_Success() {
+        // given 가맹점 3개, 묶음 크기 2 -> 배치 INSERT 2번
+        given(settlementRepository.findUnsettledStoreTotals(DATE)).willReturn(List.of(
+                new StoreDailyTotal(1L, 2, new BigDecimal("11000")),
+                new StoreDailyTotal(2L, 1, new BigDecimal("2200")),
+                new StoreDailyTotal(3L, 4, new BigDecimal("4400"))));
+        given(settlementFileService.saveDailySettlementPdf(any(), any(), eq(DATE))).willReturn("receipt.pdf");
+
+        // when
+        SettlementBatchResult result = settlementBatchJob.run(DATE);
+
+        // then
+        assertThat(result.targetStoreCount()).isEqualTo(3);
+        assertThat(result.settledStoreCount()).isEqualTo(3);
+        assertThat(result.failedStoreCount()).isZero();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Settlement>> captor = ArgumentCaptor.forClass(List.class);
+        verify(settlementRepository, times(2)).bulkInsertSettlements(captor.capture());
+        assertThat(captor.getAllValues().get(0)).extracting(Settlement::getStoreId).containsExactly(1L, 2L);
+        assertThat(captor.getAllValues().get(1)).extracting(Settlement::getStoreId).containsExactly(3L);
+        assertThat(captor.getAllValues().get(0).get(0).getSupplyAmount()).isEqualByComparingTo("10000");
+    }
+
+    @Test
+    @DisplayName("일괄 정산 - PDF 생성에 실패한 가맹점만 제외")
+    void run_SkipFailedRender() {
+        // given
+        given(settlementRepository.findUnsettledStoreTotals(DATE)).willReturn(List.of(
+                new StoreDailyTotal(1L, 2, new BigDecimal("11000")),
+                new StoreDailyTotal(2L, 1, new BigDecimal("2200"))));
+        given(settlementFileService.saveDailySettlementPdf(eq(1L), any(), eq(DATE))).willReturn("receipt.pdf");
+        given(settlementFileService.saveDailySettlementPdf(eq(2L), any(), eq(DATE)))
+                .willThrow(new RuntimeException("render failed"));
+
+        // when
+        SettlementBatchResult result = settlementBatchJob.run(DATE);
+
+        // then
+        assertThat(result.settledStoreCount()).isEqualTo(1);
+        assertThat(result.failedStoreCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("일괄 정산 - 한 건씩 다시 저장해도 실패하면 실패로 집계하고 만든 PDF는 삭제")
+    void run_InsertFailure() {
+        // given
+        given(settlementRepository.findUnsettledStoreTotals(DATE)).willReturn(List.of(
+                new StoreDailyTotal(1L, 2, new BigDecimal("11000"))));
+        given(settlementFileService.saveDailySettlementPdf(any(), any(), eq(DATE))).willReturn("receipt.pdf");
+        doThrow(new IllegalStateException("duplicate")).when(settlementRepository).bulkInsertSettlements(anyList());
+
+        // when
+        SettlementBatchResult result = settlementBatchJob.run(DATE);
+
+        // then
+        assertThat(result.settledStoreCount()).isZero();
+        assertThat(result.failedStoreCount()).isEqualTo(1);
+        verify(settlementFileService).deleteStoredPdf("receipt.pdf");
+    }
+
+    @Test
+    @DisplayName("일괄 정산 - 묶음 저장 실패 시 한 건씩 다시 저장해 충돌한 가맹점만 제외")
+    void run_InsertFailure_FallbackPerStore() {
+        // given 가맹점 2가 단건 정산으로 먼저 저장된 경우
+        given(settlementRepository.findUnsettledStoreTotals(DATE)).willReturn(List.of(
+                new StoreDailyTotal(1L, 2, new BigDecimal("11000")),
+                new StoreDailyTotal(2L, 1, new BigDecimal("2200"))));
+        given(settlementFileService.saveDailySettlementPdf(eq(1L), any(), eq(DATE))).willReturn("receipt-1.pdf");
+        given(settlementFileService.saveDailySettlementPdf(eq(2L), any(), eq(DATE))).willReturn("receipt-2.pdf");
+        doAnswer(invocation -> {
+            List<Settlement> settlements = invocation.getArgument(0);
+            if (settlements.stream().anyMatch(settlement -> settlement.getStoreId().equals(2L))) {
+                throw new IllegalStateException("duplicate");
+            }
+            return null;
+        }).when(settlementRepository).bulkInsertSettlements(anyList());
+
+        // when
+        SettlementBatchResult result = settlementBatchJob.run(DATE);
+
+        // then PDF는 다시 만들지 않고 가맹점 1만 저장
+        assertThat(result.settledStoreCount()).isEqualTo(1);
+        assertThat(result.failedStoreCount()).isEqualTo(1);
+        verify(settlementFileService, times(2)).saveDailySettlementPdf(any(), any(), eq(DATE));
+        verify(settlementFileService).deleteStoredPdf("receipt-2.pdf");
+        verify(settlementFileService, never()).deleteStoredPdf("receipt-1.pdf");
+    }
+
+    @Test
+    @DisplayName("일괄 정산 - 정산할 가맹점이 없으면 저장하지 않음")
+    void run_NothingToSettle() {
+        // given 모두 이미 정산됨
+        given(settlementRepository.findUnsettledStoreTotals(DATE)).willReturn(List.of());
+
+        // when
+        SettlementBatchResult result = settlementBatchJob.run(DATE);
+
+        // then
+        assertThat(result.targetStoreCount()).isZero();
+        verify(settlementRepository, never()).bulkInsertSettlements(anyList());
+    }
+}
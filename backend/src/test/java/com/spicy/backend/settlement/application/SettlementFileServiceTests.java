@@ -10,6 +10,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.thymeleaf.context.Context;
 import org.thymeleaf.spring6.SpringTemplateEngine;
 
+import java.io.ByteArrayOutputStream;
+import java.io.Writer;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
@@ -19,7 +21,8 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,7 +36,7 @@ class SettlementFileServiceTests {
 
     @Test
     @DisplayName("일별 정산 PDF 바이트 생성 시도 - 성공할때")
-    void createDailySettlementPdf_Success() {
+    void writeDailySettlementPdf_Success() {
         // Given
         DailySettlementResponse data = DailySettlementResponse.builder()
                 .orderCount(1)
@@ -43,27 +46,31 @@ class SettlementFileServiceTests {
         LocalDate date = LocalDate.of(2026, 1, 21);
 
 
-        // 템플릿 엔진 동작 Mocking
-        given(templateEngine.process(anyString(), any(Context.class)))
-                .willReturn("<html><body>Test Receipt</body></html>");
+        // 템플릿 엔진 동작 Mocking (Writer에 HTML 기록)
+        willAnswer(invocation -> {
+            invocation.<Writer>getArgument(2).write("<html><body>Test Receipt</body></html>");
+            return null;
+        }).given(templateEngine).process(anyString(), any(Context.class), any(Writer.class));
 
-        // Whenimport static org.assertj.core.api.Assertions.assertThat;
-        byte[] pdfBytes = settlementFileService.createDailySettlementPdf(data, date);
+        // When
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        settlementFileService.writeDailySettlementPdf(data, date, target);
+        byte[] pdfBytes = target.toByteArray();
 
         // Then
         assertThat(pdfBytes).isNotNull(); // PDF 바이트가 생성되었는지 확인
         assertThat(pdfBytes.length).isGreaterThan(0);
 
         // "settlement_template"이라는 이름으로 템플릿 엔진이 호출되었는지 확인
-        verify(templateEngine).process(eq("settlement_template"), any(Context.class));
+        verify(templateEngine).process(eq("settlement_template"), any(Context.class), any(Writer.class));
     }
 
     @Test
     @DisplayName("PDF 생성 실패할때 RuntimeException 발생 확인")
     void generatePdfBytes_Failure_ThrowsException() {
         // Given 템플릿 엔진에서 에러가 발생하는 상황 가정
-        given(templateEngine.process(anyString(), any(Context.class)))
-                .willThrow(new RuntimeException("Template error"));
+        willThrow(new RuntimeException("Template error"))
+                .given(templateEngine).process(anyString(), any(Context.class), any(Writer.class));
 
         // When 예외가 발생하는 행위를 정의 (실행 직전)
         DailySettlementResponse data = DailySettlementResponse.builder()
@@ -74,7 +81,7 @@ class SettlementFileServiceTests {
         LocalDate date = LocalDate.of(2026, 1, 21);
 
         org.assertj.core.api.ThrowableAssert.ThrowingCallable execution =
-                () -> settlementFileService.createDailySettlementPdf(data, date);
+                () -> settlementFileService.writeDailySettlementPdf(data, date, new ByteArrayOutputStream());
         // Then
         assertThatThrownBy(execution)
                 .isInstanceOf(RuntimeException.class)
@@ -0,0 +1,114 @@
+package com.spicy.backend.settlement.application;
+
+import com.spicy.backend.settlement.dto.response.DailySettlementResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SettlementPdfCacheTests {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("같은 데이터는 다시 렌더링하지 않고 디스크에서 반환")
+    void getOrRender_Hit() throws Exception {
+        // given
+        SettlementPdfCache cache = new SettlementPdfCache(tempDir.toString(), 1024, "1");
+        String key = cache.keyOf("DAILY", 1L, "2026-01-21", daily("11000"));
+        AtomicInteger renders = new AtomicInteger();
+
+        // when
+        Path first = cache.getOrRender(key, render(renders, 10));
+        Path second = cache.getOrRender(key, render(renders, 10));
+
+        // then
+        assertThat(renders.get()).isEqualTo(1);
+        assertThat(second).isEqualTo(first);
+        assertThat(Files.size(second)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("데이터나 템플릿 버전이 바뀌면 키가 달라짐")
+    void keyOf_Fingerprint() {
+        // given
+        SettlementPdfCache v1 = new SettlementPdfCache(tempDir.toString(), 1024, "1");
+        SettlementPdfCache v2 = new SettlementPdfCache(tempDir.toString(), 1024, "2");
+
+        // when
+        String key = v1.keyOf("DAILY", 1L, "2026-01-21", daily("11000"));
+
+        // then
+        assertThat(v1.keyOf("DAILY", 1L, "2026-01-21", daily("11000"))).isEqualTo(key);
+        assertThat(v1.keyOf("DAILY", 1L, "2026-01-21", daily("12000"))).isNotEqualTo(key);
+        assertThat(v1.keyOf("DAILY", 2L, "2026-01-21", daily("11000"))).isNotEqualTo(key);
+        assertThat(v2.keyOf("DAILY", 1L, "2026-01-21", daily("11000"))).isNotEqualTo(key);
+    }
+
+    @Test
+    @DisplayName("용량을 넘으면 가장 오래 안 쓴 파일부터 삭제")
+    void getOrRender_EvictLeastRecentlyUsed() {
+        // given 용량 25바이트, 파일당 10바이트
+        SettlementPdfCache cache = new SettlementPdfCache(tempDir.toString(), 25, "1");
+        AtomicInteger renders = new AtomicInteger();
+        Path a = cache.getOrRender("a", render(renders, 10));
+        Path b = cache.getOrRender("b", render(renders, 10));
+        cache.getOrRender("a", render(renders, 10));
+
+        // when
+        Path c = cache.getOrRender("c", render(renders, 10));
+
+        // then b가 가장 오래 안 쓴 파일
+        assertThat(Files.exists(a)).isTrue();
+        assertThat(Files.exists(b)).isFalse();
+        assertThat(Files.exists(c)).isTrue();
+        assertThat(cache.totalBytes()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("서버 재시작 후에도 디스크의 캐시 파일 사용")
+    void loadEntries() {
+        // given
+        AtomicInteger renders = new AtomicInteger();
+        new SettlementPdfCache(tempDir.toString(), 1024, "1").getOrRender("a", render(renders, 10));
+
+        // when
+        SettlementPdfCache restarted = new SettlementPdfCache(tempDir.toString(), 1024, "1");
+        restarted.getOrRender("a", render(renders, 10));
+
+        // then
+        assertThat(renders.get()).isEqualTo(1);
+        assertThat(restarted.totalBytes()).isEqualTo(10);
+    }
+
+    private DailySettlementResponse daily(String amount) {
+        return DailySettlementResponse.builder()
+                .orderCount(2)
+                .dailyAmount(new BigDecimal(amount))
+                .items(List.of())
+                .build();
+    }
+
+    private Consumer<OutputStream> render(AtomicInteger renders, int size) {
+        return target -> {
+            renders.incrementAndGet();
+            try {
+                target.write(new byte[size]);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+}
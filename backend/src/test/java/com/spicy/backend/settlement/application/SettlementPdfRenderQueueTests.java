@@ -0,0 +1,109 @@
+package com.spicy.backend.settlement.application;
+
+import com.spicy.backend.settlement.domain.Settlement;
+import com.spicy.backend.settlement.dto.response.DailySettlementResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SettlementPdfRenderQueueTests {
+
+    private static final Long SETTLEMENT_ID = 7L;
+    private static final Long STORE_ID = 1L;
+    private static final LocalDate DATE = LocalDate.of(2026, 1, 21);
+
+    @Mock
+    private SettlementService settlementService;
+    @Mock
+    private SettlementFileService settlementFileService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SettlementPdfRenderQueue renderQueue;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // 워커 1개, 최대 2회 시도
+        renderQueue = new SettlementPdfRenderQueue(settlementService, settlementFileService, meterRegistry,
+                1, 1, 2, 0L);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        renderQueue.shutdown();
+    }
+
+    @Test
+    @DisplayName("PDF 생성 - 렌더링 후 pdfUrl 반영")
+    void render_Success() {
+        // given
+        DailySettlementResponse data = DailySettlementResponse.builder().build();
+        given(settlementService.findPdfPendingSettlement(SETTLEMENT_ID)).willReturn(Optional.of(pendingSettlement()));
+        given(settlementService.getDailySettlement(any())).willReturn(data);
+        given(settlementFileService.saveDailySettlementPdf(STORE_ID, data, DATE)).willReturn("receipt.pdf");
+
+        // when
+        renderQueue.render(SETTLEMENT_ID, 1);
+
+        // then
+        verify(settlementService).completePdf(SETTLEMENT_ID, "receipt.pdf");
+        assertThat(meterRegistry.get("settlement.pdf.render").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("PDF 생성 - 재시도 한도를 넘기면 실패 처리")
+    void render_FailAfterMaxAttempts() {
+        // given
+        given(settlementService.findPdfPendingSettlement(SETTLEMENT_ID)).willReturn(Optional.of(pendingSettlement()));
+        given(settlementService.getDailySettlement(any())).willReturn(DailySettlementResponse.builder().build());
+        given(settlementFileService.saveDailySettlementPdf(any(), any(), any()))
+                .willThrow(new RuntimeException("render failed"));
+
+        // when 마지막 시도
+        renderQueue.render(SETTLEMENT_ID, 2);
+
+        // then
+        verify(settlementService).failPdf(SETTLEMENT_ID);
+        verify(settlementService, never()).completePdf(anyLong(), anyString());
+        assertThat(meterRegistry.get("settlement.pdf.failures").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("PDF 생성 - 이미 처리된 정산은 건너뜀")
+    void render_SkipNotPending() {
+        // given
+        given(settlementService.findPdfPendingSettlement(SETTLEMENT_ID)).willReturn(Optional.empty());
+
+        // when
+        renderQueue.render(SETTLEMENT_ID, 1);
+
+        // then
+        verify(settlementService, never()).getDailySettlement(any());
+        verify(settlementService, never()).completePdf(anyLong(), anyString());
+    }
+
+    private Settlement pendingSettlement() {
+        Settlement settlement = Settlement.daily(STORE_ID, DATE, 2, new BigDecimal("11000"), null);
+        ReflectionTestUtils.setField(settlement, "id", SETTLEMENT_ID);
+        return settlement;
+    }
+}
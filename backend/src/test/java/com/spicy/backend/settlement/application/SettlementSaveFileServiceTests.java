@@ -14,6 +14,7 @@ import org.thymeleaf.context.Context;
 import org.thymeleaf.spring6.SpringTemplateEngine;
 
 import java.io.File;
+import java.io.Writer;
 import java.math.BigDecimal;
 import java.nio.file.Path;
 import java.time.LocalDate;
@@ -22,7 +23,7 @@ import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 
 @ExtendWith(MockitoExtension.class)
 class SettlementSaveFileServiceTests {
@@ -55,11 +56,13 @@ class SettlementSaveFileServiceTests {
                 .build();
         LocalDate date = LocalDate.now();
 
-        given(templateEngine.process(anyString(), any(Context.class)))
-                .willReturn("<html><body>Receipt Content</body></html>");
+        willAnswer(invocation -> {
+            invocation.<Writer>getArgument(2).write("<html><body>Receipt Content</body></html>");
+            return null;
+        }).given(templateEngine).process(anyString(), any(Context.class), any(Writer.class));
 
-        // When 내부적으로 createDailySettlementPdf를 호출하고 파일 저장함
-        String savedPath = settlementFileService.saveDailySettlementPdf(data, date);
+        // When 내부적으로 writeDailySettlementPdf로 파일에 바로 기록함
+        String savedPath = settlementFileService.saveDailySettlementPdf(1L, data, date);
 
         // Then 경로가 반환되었는지 확인
         assertThat(savedPath).isNotNull();
@@ -1,21 +1,35 @@
 package com.spicy.backend.settlement.application;
 
 import com.spicy.backend.global.error.exception.BusinessException;
-import com.spicy.backend.order.dao.order.OrderItemRepository;
 import com.spicy.backend.order.dao.order.OrderRepository;
+import com.spicy.backend.order.enums.Status;
+import com.spicy.backend.settlement.dao.DailySalesRepository;
 import com.spicy.backend.settlement.dao.SettlementRepository;
 import com.spicy.backend.settlement.domain.Settlement;
 import com.spicy.backend.settlement.dto.request.DailySettlementRequest;
+import com.spicy.backend.settlement.dto.request.MonthlySettlementRequest;
 import com.spicy.backend.settlement.dto.response.DailySettlementResponse;
+import com.spicy.backend.settlement.dto.response.MonthlySettlementResponse;
+import com.spicy.backend.settlement.dto.response.ProductSalesInfo;
+import com.spicy.backend.settlement.dto.response.SettlementSummary;
+import com.spicy.backend.settlement.dto.response.StoredPdfFile;
+import com.spicy.backend.settlement.enums.PdfStatus;
+import com.spicy.backend.settlement.enums.SettlementStatus;
 import com.spicy.backend.settlement.error.SettlementErrorCode;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -37,9 +51,9 @@ class SettlementServiceTests {
     @Mock
     private OrderRepository orderRepository;
     @Mock
-    private OrderItemRepository orderItemRepository;
+    private DailySalesRepository dailySalesRepository;
     @Mock
-    private SettlementFileService settlementFileService;
+    private ApplicationEventPublisher eventPublisher;
 
     @Test
     @DisplayName("일별 정산 조회 - 성공") //order에서 값을 잘 받아왔는지
@@ -58,8 +72,8 @@ class SettlementServiceTests {
         // 레포지토리 동작
         given(settlementRepository.findByStoreIdAndSettlementDate(storeId, date))
                 .willReturn(Optional.of(mockSettlement));
-        given(settlementRepository.findByStoreIdAndSettlementDateBetween(any(), any(), any()))
-                .willReturn(List.of(mockSettlement));
+        given(settlementRepository.findSummary(storeId, date.withDayOfMonth(1), date))
+                .willReturn(new SettlementSummary(new BigDecimal("100000"), null, null, null, null));
 
         // When
         DailySettlementResponse response = settlementService.getDailySettlement(request);
@@ -67,6 +81,7 @@ class SettlementServiceTests {
         // Then
         assertThat(response.orderCount()).isEqualTo(5);
         assertThat(response.dailyAmount()).isEqualByComparingTo("100000");
+        assertThat(response.monthlyAccumulatedAmount()).isEqualByComparingTo("100000");
         verify(settlementRepository).findByStoreIdAndSettlementDate(storeId, date);
     }
 
@@ -106,4 +121,115 @@ class SettlementServiceTests {
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("errorCode", SettlementErrorCode.SETTLEMENT_ALREADY_EXISTS);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("정산 생성 - 성공 - 일자별 상품 합계로 금액 계산")
+    void createSettlement_FromDailySales() {
+        // Given 해당 일자에 상품 1개 3건, 총 3,300원 발주
+        Long storeId = 1L;
+        LocalDate date = LocalDate.of(2026, 1, 21);
+        given(settlementRepository.findByStoreIdAndSettlementDate(storeId, date)).willReturn(Optional.empty());
+        given(dailySalesRepository.sumByProduct(storeId, date, date))
+                .willReturn(List.of(new ProductSalesInfo(10L, "고추장", 3L, new BigDecimal("3300"))));
+        given(orderRepository.countByStoreIdAndStatusNotAndCreatedAtBetweenAndDeletedAtIsNull(
+                any(), any(Status.class), any(), any())).willReturn(2L);
+        given(settlementRepository.save(any(Settlement.class))).willAnswer(invocation -> {
+            Settlement saved = invocation.getArgument(0);
+            ReflectionTestUtils.setField(saved, "id", 7L);
+            return saved;
+        });
+
+        // When
+        settlementService.createSettlement(storeId, date);
+
+        // Then 주문 상품을 다시 읽지 않고 합계로 정산 저장
+        ArgumentCaptor<Settlement> captor = ArgumentCaptor.forClass(Settlement.class);
+        verify(settlementRepository).save(captor.capture());
+        assertThat(captor.getValue().getOrderCount()).isEqualTo(2);
+        assertThat(captor.getValue().getTotalSettlementAmount()).isEqualByComparingTo("3300");
+        assertThat(captor.getValue().getSupplyAmount()).isEqualByComparingTo("3000");
+        assertThat(captor.getValue().getTaxAmount()).isEqualByComparingTo("300");
+        // PDF는 커밋 후 비동기로 생성
+        // 정산 상태는 결제 대기, PDF만 생성 대기
+        assertThat(captor.getValue().getStatus()).isEqualTo(SettlementStatus.PENDING);
+        assertThat(captor.getValue().getPdfStatus()).isEqualTo(PdfStatus.PENDING);
+        assertThat(captor.getValue().getPdfUrl()).isNull();
+        verify(eventPublisher).publishEvent(new SettlementPdfRequestedEvent(7L));
+    }
+
+    @Test
+    @DisplayName("정산 생성 - 실패 - 해당 일자 발주 없음")
+    void createSettlement_NoOrders() {
+        // Given
+        Long storeId = 1L;
+        LocalDate date = LocalDate.of(2026, 1, 21);
+        given(settlementRepository.findByStoreIdAndSettlementDate(storeId, date)).willReturn(Optional.empty());
+        given(dailySalesRepository.sumByProduct(storeId, date, date)).willReturn(List.of());
+
+        // When & Then
+        assertThatThrownBy(() -> settlementService.createSettlement(storeId, date))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", SettlementErrorCode.NO_ORDERS_FOR_SETTLEMENT);
+    }
+
+    @Test
+    @DisplayName("월별 정산 조회 - 합계/상태는 집계 결과, 품목은 상품별 합계")
+    void getMonthlySettlement_Success() {
+        // Given
+        Long storeId = 1L;
+        LocalDate start = LocalDate.of(2026, 1, 1);
+        LocalDate end = LocalDate.of(2026, 1, 31);
+        given(settlementRepository.findSummary(storeId, start, end)).willReturn(new SettlementSummary(
+                new BigDecimal("110000"), new BigDecimal("100000"), new BigDecimal("10000"),
+                SettlementStatus.PAID, LocalDate.of(2026, 2, 10)));
+        given(dailySalesRepository.sumByProduct(storeId, start, end))
+                .willReturn(List.of(new ProductSalesInfo(10L, "고추장", 100L, new BigDecimal("110000"))));
+
+        // When
+        MonthlySettlementResponse response =
+                settlementService.getMonthlySettlement(new MonthlySettlementRequest(storeId, "2026-01"));
+
+        // Then
+        assertThat(response.totalAmount()).isEqualByComparingTo("110000");
+        assertThat(response.supplyAmount()).isEqualByComparingTo("100000");
+        assertThat(response.taxAmount()).isEqualByComparingTo("10000");
+        assertThat(response.status()).isEqualTo(SettlementStatus.PAID);
+        assertThat(response.payoutDate()).isEqualTo(LocalDate.of(2026, 2, 10));
+        assertThat(response.items().size()).isEqualTo(1);
+        assertThat(response.items().get(0).unitPrice()).isEqualByComparingTo("1100");
+        // 품목명은 현재 상품 정보가 아닌 주문 시점 상품명
+        assertThat(response.items().get(0).productName()).isEqualTo("고추장");
+    }
+
+    @Test
+    @DisplayName("저장된 영수증 조회 - 파일 정보와 마감 여부 반환")
+    void getStoredPdfFile_Success(@TempDir Path tempDir) throws Exception {
+        // Given 지난달 정산의 영수증 파일
+        Path pdf = Files.write(tempDir.resolve("receipt.pdf"), new byte[]{1, 2, 3});
+        Settlement settlement = Settlement.daily(1L, LocalDate.now().minusMonths(1), 1,
+                new BigDecimal("1100"), pdf.toString());
+        given(settlementRepository.findById(7L)).willReturn(Optional.of(settlement));
+
+        // When
+        StoredPdfFile file = settlementService.getStoredPdfFile(7L);
+
+        // Then
+        assertThat(file.size()).isEqualTo(3L);
+        assertThat(file.closedPeriod()).isTrue();
+        assertThat(file.fileName()).isEqualTo("receipt.pdf");
+        assertThat(file.etag()).startsWith("\"3-");
+    }
+
+    @Test
+    @DisplayName("저장된 영수증 조회 - PDF 생성 전이면 예외")
+    void getStoredPdfFile_NotReady() {
+        // Given
+        Settlement settlement = Settlement.daily(1L, LocalDate.now(), 1, new BigDecimal("1100"), null);
+        given(settlementRepository.findById(7L)).willReturn(Optional.of(settlement));
+
+        // When & Then
+        assertThatThrownBy(() -> settlementService.getStoredPdfFile(7L))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", SettlementErrorCode.PDF_NOT_READY);
+    }
+}
@@ -17,9 +17,15 @@ export const orderApi = {
     },
 
     // 주문 조회 (Status: PENDING, PROCESSING, SHIPPED, DELIVERED, CANCELLED)
-    getOrders: async (storeId, status) => {
+    // cursor: 이전 응답의 { nextCursorCreatedAt, nextCursorId } (첫 페이지는 생략)
+    getOrders: async (storeId, status, cursor = null, size = 20) => {
         try {
-            const response = await api.get(`${API_BASE_URL}/${status}/${storeId}`);
+            const params = { size };
+            if (cursor) {
+                params.cursorCreatedAt = cursor.nextCursorCreatedAt;
+                params.cursorId = cursor.nextCursorId;
+            }
+            const response = await api.get(`${API_BASE_URL}/${status}/${storeId}`, { params });
             return response.data;
         } catch (error) {
             console.error('Error fetching orders:', error);